@@ -0,0 +1,88 @@
+package io.spring.api.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.spring.JacksonCustomizations;
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ProfileData;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization throughput of an article response built as the old double-brace {@code HashMap},
+ * as an {@link ArticleResponse} through the mapper, and through a writer prepared for the type.
+ * The gc profiler configured in {@code build.gradle} reports the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEnvelopeBenchmark {
+
+  @Param({"false", "true"})
+  private boolean blackbird;
+
+  private ObjectMapper mapper;
+  private ObjectWriter articleWriter;
+  private ArticleData article;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    mapper = new ObjectMapper().registerModule(new JacksonCustomizations.RealWorldModules());
+    if (blackbird) {
+      mapper.registerModule(new BlackbirdModule());
+    }
+    articleWriter = mapper.writerFor(ArticleResponse.class);
+    DateTime now = new DateTime();
+    article =
+        new ArticleData(
+            "id",
+            "how-to-train-your-dragon",
+            "How to train your dragon",
+            "Ever wonder how?",
+            "It takes a Jacobian",
+            false,
+            12,
+            now,
+            now,
+            Arrays.asList("dragons", "training"),
+            new ProfileData("user-id", "jake", "I work at statefarm", "image", false));
+  }
+
+  @Benchmark
+  public byte[] doubleBraceMap() throws Exception {
+    return mapper.writeValueAsBytes(
+        new HashMap<String, Object>() {
+          {
+            put("article", article);
+          }
+        });
+  }
+
+  @Benchmark
+  public byte[] envelope() throws Exception {
+    return mapper.writeValueAsBytes(new ArticleResponse(article));
+  }
+
+  @Benchmark
+  public byte[] prebuiltWriter() throws Exception {
+    return articleWriter.writeValueAsBytes(new ArticleResponse(article));
+  }
+}
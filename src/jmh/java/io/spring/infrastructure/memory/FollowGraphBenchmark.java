@@ -0,0 +1,86 @@
+package io.spring.infrastructure.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookup latency of {@link FollowGraph}. The setup prints the adjacency bytes per edge so memory
+ * can be compared across graph shapes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FollowGraphBenchmark {
+
+  @Param({"10000"})
+  private int users;
+
+  @Param({"50", "500"})
+  private int followsPerUser;
+
+  private FollowGraph graph;
+  private String[] ids;
+  private List<String> authorPage;
+  private Random random;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    random = new Random(42);
+    ids = new String[users];
+    for (int i = 0; i < users; i++) {
+      ids[i] = UUID.randomUUID().toString();
+    }
+    graph = new FollowGraph();
+    FollowGraph.BulkLoad load = graph.bulkLoad();
+    for (int i = 0; i < users; i++) {
+      for (int j = 0; j < followsPerUser; j++) {
+        load.add(ids[i], ids[random.nextInt(users)]);
+      }
+    }
+    load.finish();
+    authorPage = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      authorPage.add(ids[random.nextInt(users)]);
+    }
+    System.out.printf(
+        "%n[follow-graph] users=%d edges=%d adjacencyBytes=%d bytesPerEdge=%.2f%n",
+        graph.userCount(),
+        graph.edgeCount(),
+        graph.estimatedAdjacencyBytes(),
+        (double) graph.estimatedAdjacencyBytes() / graph.edgeCount());
+  }
+
+  @Benchmark
+  public boolean isFollowing() {
+    return graph.isFollowing(ids[random.nextInt(users)], ids[random.nextInt(users)]);
+  }
+
+  @Benchmark
+  public Set<String> followingAuthorsOfPage() {
+    return graph.followingAmong(ids[random.nextInt(users)], authorPage);
+  }
+
+  @Benchmark
+  public List<String> followedUsers() {
+    return graph.followingOf(ids[random.nextInt(users)]);
+  }
+}
@@ -0,0 +1,92 @@
+package io.spring.infrastructure.threads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tail latency of a burst of blocking requests on Tomcat's default 200 platform threads versus a
+ * virtual thread each. Every request waits {@code waitMillis} on something unbounded, such as the
+ * client or a lock, then runs a {@code queryMillis} query under {@code permits} connection
+ * permits. One operation is a whole burst, so its sampled time is the slowest request's latency.
+ * The virtual mode needs a JDK 21 runtime: {@code ./gradlew jmh -PvirtualThreads}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSaturationBenchmark {
+
+  @Param({"platform", "virtual"})
+  private String threads;
+
+  @Param({"200", "1000"})
+  private int requests;
+
+  @Param({"10"})
+  private int permits;
+
+  @Param({"20"})
+  private long waitMillis;
+
+  @Param({"1"})
+  private long queryMillis;
+
+  private ExecutorService executor;
+  private Semaphore connections;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor =
+        threads.equals("virtual")
+            ? VirtualThreads.newPerTaskExecutor("bench-")
+            : Executors.newFixedThreadPool(200);
+    connections = new Semaphore(permits, true);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void burst() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(requests);
+    for (int i = 0; i < requests; i++) {
+      executor.execute(
+          () -> {
+            try {
+              Thread.sleep(waitMillis);
+              connections.acquire();
+              try {
+                Thread.sleep(queryMillis);
+              } finally {
+                connections.release();
+              }
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            } finally {
+              done.countDown();
+            }
+          });
+    }
+    done.await();
+  }
+}
@@ -0,0 +1,83 @@
+package io.spring;
+
+import org.joda.time.DateTime;
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * Prints timestamps in UTC as {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'}, the same text as {@code
+ * ISODateTimeFormat.dateTime().withZoneUTC()}, without building a formatter or buffer per call.
+ * Years outside 0000-9999 and non-ISO chronologies go through a shared Joda formatter instead.
+ */
+public final class IsoTimestamps {
+  /** Characters written by {@link #write} on its fast path. */
+  public static final int LENGTH = 24;
+
+  private static final DateTimeFormatter FALLBACK = ISODateTimeFormat.dateTime().withZoneUTC();
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+  private static final long MIN_MILLIS = -62_167_219_200_000L;
+  private static final long MAX_MILLIS = 253_402_300_799_999L;
+
+  private IsoTimestamps() {}
+
+  public static String format(DateTime value) {
+    if (value == null) {
+      return null;
+    }
+    if (!fastPath(value)) {
+      return FALLBACK.print(value);
+    }
+    char[] buffer = new char[LENGTH];
+    write(value.getMillis(), buffer);
+    return new String(buffer);
+  }
+
+  /** Whether {@link #write} can print {@code value}; otherwise use {@link #format}. */
+  public static boolean fastPath(DateTime value) {
+    long millis = value.getMillis();
+    return millis >= MIN_MILLIS
+        && millis <= MAX_MILLIS
+        && value.getChronology().withUTC() == ISOChronology.getInstanceUTC();
+  }
+
+  /** Writes {@link #LENGTH} characters for a UTC instant with a four digit year. */
+  public static void write(long epochMillis, char[] out) {
+    long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+    int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+    // Civil date from days since 1970-01-01, counting in 400 year eras that start on March 1st.
+    long shifted = days + 719_468;
+    long era = Math.floorDiv(shifted, 146_097);
+    int dayOfEra = (int) (shifted - era * 146_097);
+    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int shiftedMonth = (5 * dayOfYear + 2) / 153;
+    int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+    digits(out, 0, year / 100);
+    digits(out, 2, year % 100);
+    out[4] = '-';
+    digits(out, 5, month);
+    out[7] = '-';
+    digits(out, 8, day);
+    out[10] = 'T';
+    digits(out, 11, millisOfDay / 3_600_000);
+    out[13] = ':';
+    digits(out, 14, millisOfDay / 60_000 % 60);
+    out[16] = ':';
+    digits(out, 17, millisOfDay / 1000 % 60);
+    out[19] = '.';
+    int millis = millisOfDay % 1000;
+    out[20] = (char) ('0' + millis / 100);
+    digits(out, 21, millis % 100);
+    out[23] = 'Z';
+  }
+
+  private static void digits(char[] out, int offset, int value) {
+    out[offset] = (char) ('0' + value / 10);
+    out[offset + 1] = (char) ('0' + value % 10);
+  }
+}
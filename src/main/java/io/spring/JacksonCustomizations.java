@@ -5,9 +5,9 @@ import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import java.io.IOException;
 import org.joda.time.DateTime;
-import org.joda.time.format.ISODateTimeFormat;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,6 +19,12 @@ public class JacksonCustomizations {
     return new RealWorldModules();
   }
 
+  /** Replaces reflective getter calls with generated lambdas when serializing response beans. */
+  @Bean
+  public Module blackbirdModule() {
+    return new BlackbirdModule();
+  }
+
   public static class RealWorldModules extends SimpleModule {
     public RealWorldModules() {
       addSerializer(DateTime.class, new DateTimeSerializer());
@@ -26,6 +32,8 @@ public class JacksonCustomizations {
   }
 
   public static class DateTimeSerializer extends StdSerializer<DateTime> {
+    private static final ThreadLocal<char[]> BUFFER =
+        ThreadLocal.withInitial(() -> new char[IsoTimestamps.LENGTH]);
 
     protected DateTimeSerializer() {
       super(DateTime.class);
@@ -36,8 +44,12 @@ public class JacksonCustomizations {
         throws IOException {
       if (value == null) {
         gen.writeNull();
+      } else if (IsoTimestamps.fastPath(value)) {
+        char[] buffer = BUFFER.get();
+        IsoTimestamps.write(value.getMillis(), buffer);
+        gen.writeString(buffer, 0, IsoTimestamps.LENGTH);
       } else {
-        gen.writeString(ISODateTimeFormat.dateTime().withZoneUTC().print(value));
+        gen.writeString(IsoTimestamps.format(value));
       }
     }
   }
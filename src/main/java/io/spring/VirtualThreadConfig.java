@@ -0,0 +1,46 @@
+package io.spring;
+
+import io.spring.infrastructure.threads.PermitLimitedDataSource;
+import io.spring.infrastructure.threads.VirtualThreads;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opt-in mode, {@code virtual-threads.enabled=true} on a JDK 21 runtime, that serves each request
+ * on its own virtual thread. Data fetchers run on the request thread, so GraphQL gets the same.
+ * Database access is then bounded by {@code virtual-threads.jdbc-permits} connection permits,
+ * rather than by the size of the Tomcat pool. The default is one fewer than the processor count,
+ * so a carrier thread stays free for requests that do not touch the database.
+ */
+@Configuration
+@ConditionalOnProperty(name = "virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadExecutor() {
+    return protocolHandler ->
+        protocolHandler.setExecutor(VirtualThreads.newPerTaskExecutor("http-virtual-"));
+  }
+
+  @Bean
+  public static BeanPostProcessor permitLimitedDataSource(
+      @Value("${virtual-threads.jdbc-permits:0}") int permits,
+      @Value("${virtual-threads.jdbc-acquire-timeout-ms:3000}") long timeoutMillis) {
+    int limit =
+        permits > 0 ? permits : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof PermitLimitedDataSource)) {
+          return new PermitLimitedDataSource((DataSource) bean, limit, timeoutMillis);
+        }
+        return bean;
+      }
+    };
+  }
+}
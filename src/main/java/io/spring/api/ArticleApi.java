@@ -2,18 +2,24 @@ package io.spring.api;
 
 import io.spring.api.exception.NoAuthorizationException;
 import io.spring.api.exception.ResourceNotFoundException;
+import io.spring.api.response.ArticleResponse;
 import io.spring.application.ArticleQueryService;
+import io.spring.application.ResourceVersionQueryService;
 import io.spring.application.article.ArticleCommandService;
 import io.spring.application.article.UpdateArticleParam;
 import io.spring.application.data.ArticleData;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
+import io.spring.core.event.ArticleViewedEvent;
 import io.spring.core.service.AuthorizationService;
 import io.spring.core.user.User;
-import java.util.HashMap;
-import java.util.Map;
+import io.spring.infrastructure.service.ReadExecutor;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,6 +29,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping(path = "/articles/{slug}")
@@ -31,14 +38,34 @@ public class ArticleApi {
   private ArticleQueryService articleQueryService;
   private ArticleRepository articleRepository;
   private ArticleCommandService articleCommandService;
+  private ResourceVersionQueryService resourceVersionQueryService;
+  private ApplicationEventPublisher eventPublisher;
+  private ReadExecutor readExecutor;
 
   @GetMapping
-  public ResponseEntity<?> article(
-      @PathVariable("slug") String slug, @AuthenticationPrincipal User user) {
-    return articleQueryService
-        .findBySlug(slug, user)
-        .map(articleData -> ResponseEntity.ok(articleResponse(articleData)))
-        .orElseThrow(ResourceNotFoundException::new);
+  public CompletableFuture<ResponseEntity<?>> article(
+      @PathVariable("slug") String slug,
+      @AuthenticationPrincipal User user,
+      ServletWebRequest request) {
+    ConditionalRequests.Preconditions preconditions = ConditionalRequests.preconditions(request);
+    return readExecutor.submit(
+        () -> {
+          HttpHeaders validators =
+              ConditionalRequests.validators(resourceVersionQueryService.article(slug, user), user);
+          if (preconditions.notModified(validators)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(validators).build();
+          }
+          return articleQueryService
+              .findBySlug(slug, user)
+              .map(
+                  articleData -> {
+                    eventPublisher.publishEvent(new ArticleViewedEvent(articleData.getId()));
+                    return ResponseEntity.ok()
+                        .headers(validators)
+                        .body(articleResponse(articleData));
+                  })
+              .orElseThrow(ResourceNotFoundException::new);
+        });
   }
 
   @PutMapping
@@ -78,11 +105,7 @@ public class ArticleApi {
         .orElseThrow(ResourceNotFoundException::new);
   }
 
-  private Map<String, Object> articleResponse(ArticleData articleData) {
-    return new HashMap<String, Object>() {
-      {
-        put("article", articleData);
-      }
-    };
+  private ArticleResponse articleResponse(ArticleData articleData) {
+    return new ArticleResponse(articleData);
   }
 }
@@ -1,12 +1,17 @@
 package io.spring.api;
 
+import io.spring.api.response.ArticleResponse;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.Page;
 import io.spring.application.article.ArticleCommandService;
 import io.spring.application.article.NewArticleParam;
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ArticleDataList;
 import io.spring.core.article.Article;
 import io.spring.core.user.User;
-import java.util.HashMap;
+import io.spring.infrastructure.service.ReadExecutor;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,37 +29,56 @@ import org.springframework.web.bind.annotation.RestController;
 public class ArticlesApi {
   private ArticleCommandService articleCommandService;
   private ArticleQueryService articleQueryService;
+  private ReadExecutor readExecutor;
 
   @PostMapping
   public ResponseEntity createArticle(
       @Valid @RequestBody NewArticleParam newArticleParam, @AuthenticationPrincipal User user) {
     Article article = articleCommandService.createArticle(newArticleParam, user);
     return ResponseEntity.ok(
-        new HashMap<String, Object>() {
-          {
-            put("article", articleQueryService.findById(article.getId(), user).get());
-          }
-        });
+        new ArticleResponse(articleQueryService.findById(article.getId(), user).get()));
   }
 
   @GetMapping(path = "feed")
-  public ResponseEntity getFeed(
+  public CompletableFuture<ResponseEntity<?>> getFeed(
+      @RequestParam(value = "offset", defaultValue = "0") int offset,
+      @RequestParam(value = "limit", defaultValue = "20") int limit,
+      @AuthenticationPrincipal User user) {
+    return readExecutor.submit(
+        () -> ResponseEntity.ok(articleQueryService.findUserFeed(user, new Page(offset, limit))));
+  }
+
+  @GetMapping(path = "trending")
+  public CompletableFuture<ResponseEntity<?>> getTrending(
       @RequestParam(value = "offset", defaultValue = "0") int offset,
       @RequestParam(value = "limit", defaultValue = "20") int limit,
       @AuthenticationPrincipal User user) {
-    return ResponseEntity.ok(articleQueryService.findUserFeed(user, new Page(offset, limit)));
+    return readExecutor.submit(
+        () -> ResponseEntity.ok(articleQueryService.findTrending(new Page(offset, limit), user)));
   }
 
   @GetMapping
-  public ResponseEntity getArticles(
+  public CompletableFuture<ResponseEntity<?>> getArticles(
       @RequestParam(value = "offset", defaultValue = "0") int offset,
       @RequestParam(value = "limit", defaultValue = "20") int limit,
       @RequestParam(value = "tag", required = false) String tag,
       @RequestParam(value = "favorited", required = false) String favoritedBy,
       @RequestParam(value = "author", required = false) String author,
       @AuthenticationPrincipal User user) {
-    return ResponseEntity.ok(
-        articleQueryService.findRecentArticles(
-            tag, author, favoritedBy, new Page(offset, limit), user));
+    return readExecutor.submit(
+        () ->
+            ResponseEntity.ok(
+                articleQueryService.findRecentArticles(
+                    tag, author, favoritedBy, new Page(offset, limit), user)));
+  }
+
+  @GetMapping(params = "slugs")
+  public CompletableFuture<ResponseEntity<?>> getArticlesBySlugs(
+      @RequestParam("slugs") List<String> slugs, @AuthenticationPrincipal User user) {
+    return readExecutor.submit(
+        () -> {
+          List<ArticleData> articles = articleQueryService.findBySlugs(slugs, user);
+          return ResponseEntity.ok(new ArticleDataList(articles, articles.size()));
+        });
   }
 }
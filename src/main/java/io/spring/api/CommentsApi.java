@@ -3,7 +3,10 @@ package io.spring.api;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import io.spring.api.exception.NoAuthorizationException;
 import io.spring.api.exception.ResourceNotFoundException;
+import io.spring.api.response.CommentResponse;
+import io.spring.api.response.CommentsResponse;
 import io.spring.application.CommentQueryService;
+import io.spring.application.ResourceVersionQueryService;
 import io.spring.application.data.CommentData;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
@@ -11,14 +14,16 @@ import io.spring.core.comment.Comment;
 import io.spring.core.comment.CommentRepository;
 import io.spring.core.service.AuthorizationService;
 import io.spring.core.user.User;
-import java.util.HashMap;
+import io.spring.infrastructure.service.ReadExecutor;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping(path = "/articles/{slug}/comments")
@@ -36,6 +42,8 @@ public class CommentsApi {
   private ArticleRepository articleRepository;
   private CommentRepository commentRepository;
   private CommentQueryService commentQueryService;
+  private ResourceVersionQueryService resourceVersionQueryService;
+  private ReadExecutor readExecutor;
 
   @PostMapping
   public ResponseEntity<?> createComment(
@@ -51,16 +59,23 @@ public class CommentsApi {
   }
 
   @GetMapping
-  public ResponseEntity getComments(
-      @PathVariable("slug") String slug, @AuthenticationPrincipal User user) {
-    Article article =
-        articleRepository.findBySlug(slug).orElseThrow(ResourceNotFoundException::new);
-    List<CommentData> comments = commentQueryService.findByArticleId(article.getId(), user);
-    return ResponseEntity.ok(
-        new HashMap<String, Object>() {
-          {
-            put("comments", comments);
+  public CompletableFuture<ResponseEntity<?>> getComments(
+      @PathVariable("slug") String slug,
+      @AuthenticationPrincipal User user,
+      ServletWebRequest request) {
+    ConditionalRequests.Preconditions preconditions = ConditionalRequests.preconditions(request);
+    return readExecutor.submit(
+        () -> {
+          HttpHeaders validators =
+              ConditionalRequests.validators(
+                  resourceVersionQueryService.comments(slug, user), user);
+          if (preconditions.notModified(validators)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(validators).build();
           }
+          Article article =
+              articleRepository.findBySlug(slug).orElseThrow(ResourceNotFoundException::new);
+          List<CommentData> comments = commentQueryService.findByArticleId(article.getId(), user);
+          return ResponseEntity.ok().headers(validators).body(new CommentsResponse(comments));
         });
   }
 
@@ -84,12 +99,8 @@ public class CommentsApi {
         .orElseThrow(ResourceNotFoundException::new);
   }
 
-  private Map<String, Object> commentResponse(CommentData commentData) {
-    return new HashMap<String, Object>() {
-      {
-        put("comment", commentData);
-      }
-    };
+  private CommentResponse commentResponse(CommentData commentData) {
+    return new CommentResponse(commentData);
   }
 }
 
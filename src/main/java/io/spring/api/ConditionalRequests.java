@@ -0,0 +1,120 @@
+package io.spring.api;
+
+import io.spring.application.data.ResourceVersion;
+import io.spring.core.user.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/** Conditional GET handling shared by the polled read endpoints. */
+final class ConditionalRequests {
+  private static final String PUBLIC = CacheControl.noCache().cachePublic().getHeaderValue();
+  private static final String PRIVATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+  private ConditionalRequests() {}
+
+  /**
+   * Adds the validators to the response and returns true when a 304 has been prepared, in which
+   * case the handler should return {@code null}. Only anonymous responses are public and carry
+   * {@code Last-Modified}, because the viewer overlay has no change time of its own.
+   */
+  static boolean notModified(
+      ServletWebRequest request, Optional<ResourceVersion> version, User user) {
+    if (version == null || !version.isPresent()) {
+      return false;
+    }
+    long lastModified = user == null ? version.get().getLastModified() : 0;
+    HttpServletResponse response = request.getResponse();
+    if (response != null) {
+      response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+      response.setHeader(HttpHeaders.CACHE_CONTROL, user == null ? PUBLIC : PRIVATE);
+    }
+    if (lastModified > 0) {
+      return request.checkNotModified(version.get().getEtag(), lastModified);
+    }
+    return request.checkNotModified(version.get().getEtag());
+  }
+
+  /**
+   * The validators of {@code version} as headers for the handler's own entity, for handlers that
+   * answer asynchronously and so must not touch the servlet response from their thread. Empty
+   * when there is no version; otherwise as {@link #notModified} would set them.
+   */
+  static HttpHeaders validators(Optional<ResourceVersion> version, User user) {
+    HttpHeaders headers = new HttpHeaders();
+    if (version == null || !version.isPresent()) {
+      return headers;
+    }
+    headers.set(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+    headers.set(HttpHeaders.CACHE_CONTROL, user == null ? PUBLIC : PRIVATE);
+    headers.setETag(version.get().getEtag());
+    if (user == null && version.get().getLastModified() > 0) {
+      headers.setLastModified(version.get().getLastModified());
+    }
+    return headers;
+  }
+
+  /** The preconditions of {@code request}, read on the servlet thread before the handler forks. */
+  static Preconditions preconditions(ServletWebRequest request) {
+    List<String> ifNoneMatch = new ArrayList<>();
+    String[] values = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+    if (values != null) {
+      for (String value : values) {
+        for (String tag : value.split(",")) {
+          if (!tag.trim().isEmpty()) {
+            ifNoneMatch.add(tag.trim());
+          }
+        }
+      }
+    }
+    long ifModifiedSince;
+    try {
+      ifModifiedSince = request.getRequest().getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+    } catch (IllegalArgumentException e) {
+      ifModifiedSince = -1;
+    }
+    return new Preconditions(ifNoneMatch, ifModifiedSince);
+  }
+
+  /** {@code If-None-Match} and {@code If-Modified-Since} of one request. */
+  static final class Preconditions {
+    private final List<String> ifNoneMatch;
+    private final long ifModifiedSince;
+
+    private Preconditions(List<String> ifNoneMatch, long ifModifiedSince) {
+      this.ifNoneMatch = ifNoneMatch;
+      this.ifModifiedSince = ifModifiedSince;
+    }
+
+    /**
+     * Whether the client's copy is still current for {@code validators}, comparing entity tags
+     * weakly and, only without {@code If-None-Match}, modification times to the second.
+     */
+    boolean notModified(HttpHeaders validators) {
+      String etag = validators.getETag();
+      if (etag == null) {
+        return false;
+      }
+      if (!ifNoneMatch.isEmpty()) {
+        for (String tag : ifNoneMatch) {
+          if ("*".equals(tag) || opaque(tag).equals(opaque(etag))) {
+            return true;
+          }
+        }
+        return false;
+      }
+      long lastModified = validators.getLastModified();
+      return ifModifiedSince >= 0
+          && lastModified >= 0
+          && ifModifiedSince >= lastModified / 1000 * 1000;
+    }
+
+    private static String opaque(String tag) {
+      return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package io.spring.api;
+
+import io.spring.application.data.ArticleData;
+import io.spring.core.user.User;
+import io.spring.infrastructure.broker.FeedActivity;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Server-sent events for the feed: an {@code article} event, whose id is the resume point, for
+ * every article a followed author creates, and a comment line every heartbeat so idle proxies keep
+ * the connection open. A client that falls behind loses its oldest undelivered events.
+ */
+@RestController
+@RequestMapping(path = "/articles/feed/stream")
+public class FeedStreamApi {
+  private final FeedActivity feedActivity;
+  private final Duration heartbeat;
+
+  public FeedStreamApi(
+      FeedActivity feedActivity,
+      @Value("${feed.stream.heartbeat-seconds:15}") long heartbeatSeconds) {
+    this.feedActivity = feedActivity;
+    this.heartbeat = Duration.ofSeconds(heartbeatSeconds);
+  }
+
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<ArticleData>> streamFeed(
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+      @AuthenticationPrincipal User user) {
+    Flux<ServerSentEvent<ArticleData>> articles =
+        feedActivity
+            .articlesCreated(user.getId(), parseEventId(lastEventId))
+            .map(
+                event ->
+                    ServerSentEvent.builder(event.article())
+                        .id(String.valueOf(event.id()))
+                        .event("article")
+                        .build());
+    Flux<ServerSentEvent<ArticleData>> heartbeats =
+        Flux.interval(heartbeat, heartbeat)
+            .map(tick -> ServerSentEvent.<ArticleData>builder().comment("heartbeat").build());
+    return articles.mergeWith(heartbeats);
+  }
+
+  private static Long parseEventId(String lastEventId) {
+    try {
+      return lastEventId == null ? null : Long.valueOf(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
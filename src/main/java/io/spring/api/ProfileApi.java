@@ -1,12 +1,13 @@
 package io.spring.api;
 
 import io.spring.api.exception.ResourceNotFoundException;
+import io.spring.api.response.ProfileResponse;
 import io.spring.application.ProfileQueryService;
+import io.spring.application.ResourceVersionQueryService;
 import io.spring.application.data.ProfileData;
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
-import java.util.HashMap;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping(path = "profiles/{username}")
@@ -24,10 +26,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProfileApi {
   private ProfileQueryService profileQueryService;
   private UserRepository userRepository;
+  private ResourceVersionQueryService resourceVersionQueryService;
 
   @GetMapping
   public ResponseEntity getProfile(
-      @PathVariable("username") String username, @AuthenticationPrincipal User user) {
+      @PathVariable("username") String username,
+      @AuthenticationPrincipal User user,
+      ServletWebRequest request) {
+    if (ConditionalRequests.notModified(
+        request, resourceVersionQueryService.profile(username, user), user)) {
+      return null;
+    }
     return profileQueryService
         .findByUsername(username, user)
         .map(this::profileResponse)
@@ -67,12 +76,7 @@ public class ProfileApi {
     }
   }
 
-  private ResponseEntity profileResponse(ProfileData profile) {
-    return ResponseEntity.ok(
-        new HashMap<String, Object>() {
-          {
-            put("profile", profile);
-          }
-        });
+  private ResponseEntity<ProfileResponse> profileResponse(ProfileData profile) {
+    return ResponseEntity.ok(new ProfileResponse(profile));
   }
 }
@@ -1,26 +1,30 @@
 package io.spring.api;
 
+import io.spring.api.response.TagsResponse;
+import io.spring.application.ResourceVersionQueryService;
 import io.spring.application.TagsQueryService;
-import java.util.HashMap;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping(path = "tags")
 @AllArgsConstructor
 public class TagsApi {
   private TagsQueryService tagsQueryService;
+  private ResourceVersionQueryService resourceVersionQueryService;
 
   @GetMapping
-  public ResponseEntity getTags() {
+  public ResponseEntity getTags(
+      @RequestParam(value = "top", required = false) Integer top, ServletWebRequest request) {
+    if (ConditionalRequests.notModified(request, resourceVersionQueryService.tags(), null)) {
+      return null;
+    }
     return ResponseEntity.ok(
-        new HashMap<String, Object>() {
-          {
-            put("tags", tagsQueryService.allTags());
-          }
-        });
+        new TagsResponse(top == null ? tagsQueryService.allTags() : tagsQueryService.topTags(top)));
   }
 }
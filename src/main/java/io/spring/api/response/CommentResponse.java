@@ -0,0 +1,5 @@
+package io.spring.api.response;
+
+import io.spring.application.data.CommentData;
+
+public record CommentResponse(CommentData comment) {}
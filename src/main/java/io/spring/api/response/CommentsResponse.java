@@ -0,0 +1,6 @@
+package io.spring.api.response;
+
+import io.spring.application.data.CommentData;
+import java.util.List;
+
+public record CommentsResponse(List<CommentData> comments) {}
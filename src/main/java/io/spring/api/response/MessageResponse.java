@@ -0,0 +1,3 @@
+package io.spring.api.response;
+
+public record MessageResponse(String message) {}
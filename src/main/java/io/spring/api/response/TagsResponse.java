@@ -0,0 +1,5 @@
+package io.spring.api.response;
+
+import java.util.List;
+
+public record TagsResponse(List<String> tags) {}
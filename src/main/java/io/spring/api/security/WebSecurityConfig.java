@@ -52,7 +52,9 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
         .permitAll()
         .antMatchers("/graphql")
         .permitAll()
-        .antMatchers(HttpMethod.GET, "/articles/feed")
+        .antMatchers("/subscriptions")
+        .permitAll()
+        .antMatchers(HttpMethod.GET, "/articles/feed", "/articles/feed/stream")
         .authenticated()
         .antMatchers(HttpMethod.POST, "/users", "/users/login")
         .permitAll()
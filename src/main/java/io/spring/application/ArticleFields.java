@@ -0,0 +1,23 @@
+package io.spring.application;
+
+import lombok.Value;
+
+/**
+ * The parts of {@link io.spring.application.data.ArticleData} a caller will read. Anything left
+ * out is neither selected, joined nor enriched, and stays {@code null} or {@code false} on the
+ * returned data.
+ */
+@Value
+public class ArticleFields {
+  public static final ArticleFields ALL = new ArticleFields(true, true, true, true, true);
+
+  private boolean body;
+  private boolean tags;
+  private boolean author;
+  private boolean favoritesCount;
+  private boolean favorited;
+
+  public boolean isAll() {
+    return body && tags && author && favoritesCount && favorited;
+  }
+}
@@ -1,37 +1,61 @@
 package io.spring.application;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ArticleDataList;
-import io.spring.application.data.ArticleFavoriteCount;
+import io.spring.application.data.UserData;
 import io.spring.core.user.User;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.ArticleFilterIndex.Filter;
+import io.spring.infrastructure.memory.FavoriteCounters;
+import io.spring.infrastructure.memory.RelatedArticlesIndex;
+import io.spring.infrastructure.memory.TrendingScores;
 import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
 import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import io.spring.infrastructure.mybatis.readservice.UserReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import io.spring.infrastructure.service.QueryFanOut;
+import io.spring.infrastructure.service.QueryFanOut.Forked;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import javax.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import org.joda.time.DateTime;
 import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
 
 @Service
+@Validated
 @AllArgsConstructor
 public class ArticleQueryService {
+  public static final int MAX_SLUGS = 100;
+
   private ArticleReadService articleReadService;
   private UserRelationshipQueryService userRelationshipQueryService;
   private ArticleFavoritesReadService articleFavoritesReadService;
+  private FavoriteCounters favoriteCounters;
+  private QueryFanOut queryFanOut;
+  private TrendingScores trendingScores;
+  private RelatedArticlesIndex relatedArticlesIndex;
+  private ArticleFilterIndex articleFilterIndex;
+  private UserReadService userReadService;
 
   public Optional<ArticleData> findById(String id, User user) {
-    ArticleData articleData = articleReadService.findById(id);
+    ArticleData articleData = articleReadService.findById(id, ArticleFields.ALL);
     if (articleData == null) {
       return Optional.empty();
     } else {
+      articleData.setFavoritesCount(favoriteCounters.count(id));
       if (user != null) {
         fillExtraInfo(id, user, articleData);
       }
@@ -40,10 +64,11 @@ public class ArticleQueryService {
   }
 
   public Optional<ArticleData> findBySlug(String slug, User user) {
-    ArticleData articleData = articleReadService.findBySlug(slug);
+    ArticleData articleData = articleReadService.findBySlug(slug, ArticleFields.ALL);
     if (articleData == null) {
       return Optional.empty();
     } else {
+      articleData.setFavoritesCount(favoriteCounters.count(articleData.getId()));
       if (user != null) {
         fillExtraInfo(articleData.getId(), user, articleData);
       }
@@ -51,14 +76,75 @@ public class ArticleQueryService {
     }
   }
 
+  /**
+   * The articles with the given slugs, in the order requested and without duplicates, read with
+   * one query and decorated for the viewer in one batch. Unknown slugs are skipped.
+   */
+  public List<ArticleData> findBySlugs(
+      @Size(max = MAX_SLUGS, message = "at most " + MAX_SLUGS + " slugs") List<String> slugs,
+      User currentUser) {
+    return findBySlugs(slugs, currentUser, ArticleFields.ALL);
+  }
+
+  public List<ArticleData> findBySlugs(
+      @Size(max = MAX_SLUGS, message = "at most " + MAX_SLUGS + " slugs") List<String> slugs,
+      User currentUser,
+      ArticleFields fields) {
+    List<String> distinct = new ArrayList<>(new LinkedHashSet<>(slugs));
+    if (distinct.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Map<String, Integer> positions = new HashMap<>();
+    for (int i = 0; i < distinct.size(); i++) {
+      positions.put(distinct.get(i), i);
+    }
+    List<ArticleData> articles = articleReadService.findBySlugs(distinct, fields);
+    articles.sort(Comparator.comparingInt(articleData -> positions.get(articleData.getSlug())));
+    fillExtraInfo(articles, currentUser, fields);
+    return articles;
+  }
+
+  /** The given articles keyed by id, read and decorated for the viewer in one batch. */
+  public Map<String, ArticleData> findByIds(Collection<String> ids, User currentUser) {
+    if (ids.isEmpty()) {
+      return new HashMap<>();
+    }
+    List<ArticleData> articles =
+        articleReadService.findArticles(new ArrayList<>(ids), ArticleFields.ALL);
+    fillExtraInfo(articles, currentUser, ArticleFields.ALL);
+    return articles.stream().collect(toMap(ArticleData::getId, articleData -> articleData));
+  }
+
   public CursorPager<ArticleData> findRecentArticlesWithCursor(
       String tag,
       String author,
       String favoritedBy,
       CursorPageParameter<DateTime> page,
       User currentUser) {
-    List<String> articleIds =
-        articleReadService.findArticlesWithCursor(tag, author, favoritedBy, page);
+    return findRecentArticlesWithCursor(
+        tag, author, favoritedBy, page, currentUser, ArticleFields.ALL);
+  }
+
+  public CursorPager<ArticleData> findRecentArticlesWithCursor(
+      String tag,
+      String author,
+      String favoritedBy,
+      CursorPageParameter<DateTime> page,
+      User currentUser,
+      ArticleFields fields) {
+    List<String> articleIds;
+    if (articleFilterIndex.isReady()) {
+      Long cursor = page.getCursor() == null ? null : page.getCursor().getMillis();
+      articleIds =
+          filterOf(tag, author, favoritedBy)
+              .map(
+                  filter ->
+                      articleFilterIndex.findWithCursor(
+                          filter, cursor, page.isNext(), page.getQueryLimit()))
+              .orElseGet(ArrayList::new);
+    } else {
+      articleIds = articleReadService.findArticlesWithCursor(tag, author, favoritedBy, page);
+    }
     if (articleIds.size() == 0) {
       return new CursorPager<>(new ArrayList<>(), page.getDirection(), false);
     } else {
@@ -70,8 +156,8 @@ public class ArticleQueryService {
         Collections.reverse(articleIds);
       }
 
-      List<ArticleData> articles = articleReadService.findArticles(articleIds);
-      fillExtraInfo(articles, currentUser);
+      List<ArticleData> articles = articleReadService.findArticles(articleIds, fields);
+      fillExtraInfo(articles, currentUser, fields);
 
       return new CursorPager<>(articles, page.getDirection(), hasExtra);
     }
@@ -79,12 +165,17 @@ public class ArticleQueryService {
 
   public CursorPager<ArticleData> findUserFeedWithCursor(
       User user, CursorPageParameter<DateTime> page) {
+    return findUserFeedWithCursor(user, page, ArticleFields.ALL);
+  }
+
+  public CursorPager<ArticleData> findUserFeedWithCursor(
+      User user, CursorPageParameter<DateTime> page, ArticleFields fields) {
     List<String> followdUsers = userRelationshipQueryService.followedUsers(user.getId());
     if (followdUsers.size() == 0) {
       return new CursorPager<>(new ArrayList<>(), page.getDirection(), false);
     } else {
       List<ArticleData> articles =
-          articleReadService.findArticlesOfAuthorsWithCursor(followdUsers, page);
+          articleReadService.findArticlesOfAuthorsWithCursor(followdUsers, page, fields);
       boolean hasExtra = articles.size() > page.getLimit();
       if (hasExtra) {
         articles.remove(page.getLimit());
@@ -92,22 +183,43 @@ public class ArticleQueryService {
       if (!page.isNext()) {
         Collections.reverse(articles);
       }
-      fillExtraInfo(articles, user);
+      fillExtraInfo(articles, user, fields);
       return new CursorPager<>(articles, page.getDirection(), hasExtra);
     }
   }
 
   public ArticleDataList findRecentArticles(
       String tag, String author, String favoritedBy, Page page, User currentUser) {
-    List<String> articleIds = articleReadService.queryArticles(tag, author, favoritedBy, page);
-    int articleCount = articleReadService.countArticle(tag, author, favoritedBy);
-    if (articleIds.size() == 0) {
-      return new ArticleDataList(new ArrayList<>(), articleCount);
-    } else {
-      List<ArticleData> articles = articleReadService.findArticles(articleIds);
-      fillExtraInfo(articles, currentUser);
-      return new ArticleDataList(articles, articleCount);
+    if (articleFilterIndex.isReady()) {
+      Optional<Filter> filter = filterOf(tag, author, favoritedBy);
+      if (!filter.isPresent()) {
+        return new ArticleDataList(new ArrayList<>(), 0);
+      }
+      int count = articleFilterIndex.count(filter.get());
+      List<String> articleIds =
+          articleFilterIndex.find(filter.get(), page.getOffset(), page.getLimit());
+      if (articleIds.isEmpty()) {
+        return new ArticleDataList(new ArrayList<>(), count);
+      }
+      List<ArticleData> articles = articleReadService.findArticles(articleIds, ArticleFields.ALL);
+      fillExtraInfo(articles, currentUser, ArticleFields.ALL);
+      return new ArticleDataList(articles, count);
+    }
+    Forked<Integer> articleCount =
+        queryFanOut.fork(() -> articleReadService.countArticle(tag, author, favoritedBy));
+    List<ArticleData> articles;
+    try {
+      List<String> articleIds = articleReadService.queryArticles(tag, author, favoritedBy, page);
+      if (articleIds.size() == 0) {
+        return new ArticleDataList(new ArrayList<>(), articleCount.join());
+      }
+      articles = articleReadService.findArticles(articleIds, ArticleFields.ALL);
+      fillExtraInfo(articles, currentUser, ArticleFields.ALL);
+    } catch (RuntimeException e) {
+      articleCount.cancel();
+      throw e;
     }
+    return new ArticleDataList(articles, articleCount.join());
   }
 
   public ArticleDataList findUserFeed(User user, Page page) {
@@ -115,18 +227,109 @@ public class ArticleQueryService {
     if (followdUsers.size() == 0) {
       return new ArticleDataList(new ArrayList<>(), 0);
     } else {
-      List<ArticleData> articles = articleReadService.findArticlesOfAuthors(followdUsers, page);
-      fillExtraInfo(articles, user);
-      int count = articleReadService.countFeedSize(followdUsers);
-      return new ArticleDataList(articles, count);
+      Forked<Integer> count =
+          queryFanOut.fork(() -> articleReadService.countFeedSize(followdUsers));
+      List<ArticleData> articles;
+      try {
+        articles = articleReadService.findArticlesOfAuthors(followdUsers, page, ArticleFields.ALL);
+        fillExtraInfo(articles, user, ArticleFields.ALL);
+      } catch (RuntimeException e) {
+        count.cancel();
+        throw e;
+      }
+      return new ArticleDataList(articles, count.join());
     }
   }
 
-  private void fillExtraInfo(List<ArticleData> articles, User currentUser) {
-    setFavoriteCount(articles);
-    if (currentUser != null) {
-      setIsFavorite(articles, currentUser);
-      setIsFollowingAuthor(articles, currentUser);
+  /** Articles ordered by decayed recent activity, most active first. */
+  public ArticleDataList findTrending(Page page, User currentUser) {
+    return findTrending(page, currentUser, ArticleFields.ALL);
+  }
+
+  public ArticleDataList findTrending(Page page, User currentUser, ArticleFields fields) {
+    List<String> articleIds = trendingScores.top(page.getOffset(), page.getLimit());
+    int count = trendingScores.size();
+    if (articleIds.isEmpty()) {
+      return new ArticleDataList(new ArrayList<>(), count);
+    }
+    List<ArticleData> articles = findArticlesInOrder(articleIds, fields);
+    fillExtraInfo(articles, currentUser, fields);
+    return new ArticleDataList(articles, count);
+  }
+
+  /** Up to {@code k} articles sharing the most, and the rarest, tags with the given one. */
+  public List<ArticleData> findRelated(String slug, int k, User currentUser) {
+    return findRelated(slug, k, currentUser, ArticleFields.ALL);
+  }
+
+  public List<ArticleData> findRelated(
+      String slug, int k, User currentUser, ArticleFields fields) {
+    String articleId = articleReadService.findIdBySlug(slug);
+    if (articleId == null) {
+      return new ArrayList<>();
+    }
+    List<String> articleIds = relatedArticlesIndex.related(articleId, k);
+    if (articleIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<ArticleData> articles = findArticlesInOrder(articleIds, fields);
+    fillExtraInfo(articles, currentUser, fields);
+    return articles;
+  }
+
+  /** Resolves the usernames of a listing filter, empty when either user does not exist. */
+  private Optional<Filter> filterOf(String tag, String author, String favoritedBy) {
+    String authorId = null;
+    String favoritedById = null;
+    if (author != null) {
+      UserData user = userReadService.findByUsername(author);
+      if (user == null) {
+        return Optional.empty();
+      }
+      authorId = user.getId();
+    }
+    if (favoritedBy != null) {
+      UserData user = userReadService.findByUsername(favoritedBy);
+      if (user == null) {
+        return Optional.empty();
+      }
+      favoritedById = user.getId();
+    }
+    return Optional.of(new Filter(tag, authorId, favoritedById));
+  }
+
+  private List<ArticleData> findArticlesInOrder(List<String> articleIds, ArticleFields fields) {
+    Map<String, Integer> positions = new HashMap<>();
+    for (int i = 0; i < articleIds.size(); i++) {
+      positions.put(articleIds.get(i), i);
+    }
+    List<ArticleData> articles = articleReadService.findArticles(articleIds, fields);
+    articles.sort(Comparator.comparingInt(articleData -> positions.get(articleData.getId())));
+    return articles;
+  }
+
+  private void fillExtraInfo(List<ArticleData> articles, User currentUser, ArticleFields fields) {
+    Forked<Set<String>> favoritedArticles = null;
+    if (currentUser != null && fields.isFavorited()) {
+      List<String> ids = articles.stream().map(ArticleData::getId).collect(toList());
+      favoritedArticles =
+          queryFanOut.fork(() -> articleFavoritesReadService.userFavorites(ids, currentUser));
+    }
+    try {
+      if (fields.isFavoritesCount()) {
+        setFavoriteCount(articles);
+      }
+      if (currentUser != null && fields.isAuthor()) {
+        setIsFollowingAuthor(articles, currentUser);
+      }
+    } catch (RuntimeException e) {
+      if (favoritedArticles != null) {
+        favoritedArticles.cancel();
+      }
+      throw e;
+    }
+    if (favoritedArticles != null) {
+      setIsFavorite(articles, favoritedArticles.join());
     }
   }
 
@@ -146,24 +349,13 @@ public class ArticleQueryService {
   }
 
   private void setFavoriteCount(List<ArticleData> articles) {
-    List<ArticleFavoriteCount> favoritesCounts =
-        articleFavoritesReadService.articlesFavoriteCount(
-            articles.stream().map(ArticleData::getId).collect(toList()));
-    Map<String, Integer> countMap = new HashMap<>();
-    favoritesCounts.forEach(
-        item -> {
-          countMap.put(item.getId(), item.getCount());
-        });
+    Map<String, Integer> countMap =
+        favoriteCounters.counts(articles.stream().map(ArticleData::getId).collect(toList()));
     articles.forEach(
         articleData -> articleData.setFavoritesCount(countMap.get(articleData.getId())));
   }
 
-  private void setIsFavorite(List<ArticleData> articles, User currentUser) {
-    Set<String> favoritedArticles =
-        articleFavoritesReadService.userFavorites(
-            articles.stream().map(articleData -> articleData.getId()).collect(toList()),
-            currentUser);
-
+  private void setIsFavorite(List<ArticleData> articles, Set<String> favoritedArticles) {
     articles.forEach(
         articleData -> {
           if (favoritedArticles.contains(articleData.getId())) {
@@ -174,7 +366,6 @@ public class ArticleQueryService {
 
   private void fillExtraInfo(String id, User user, ArticleData articleData) {
     articleData.setFavorited(articleFavoritesReadService.isUserFavorite(user.getId(), id));
-    articleData.setFavoritesCount(articleFavoritesReadService.articleFavoriteCount(id));
     articleData
         .getProfileData()
         .setFollowing(
@@ -1,12 +1,16 @@
 package io.spring.application;
 
 import io.spring.application.data.CommentData;
+import io.spring.application.data.ProfileData;
 import io.spring.core.user.User;
 import io.spring.infrastructure.mybatis.readservice.CommentReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,22 +38,24 @@ public class CommentQueryService {
     return Optional.ofNullable(commentData);
   }
 
+  /** A copy of a comment shared between viewers, with the author's following flag for one. */
+  public CommentData forViewer(CommentData comment, User user) {
+    ProfileData author = comment.getProfileData();
+    boolean following =
+        user != null && userRelationshipQueryService.isUserFollowing(user.getId(), author.getId());
+    return new CommentData(
+        comment.getId(),
+        comment.getBody(),
+        comment.getArticleId(),
+        comment.getCreatedAt(),
+        comment.getUpdatedAt(),
+        new ProfileData(
+            author.getId(), author.getUsername(), author.getBio(), author.getImage(), following));
+  }
+
   public List<CommentData> findByArticleId(String articleId, User user) {
     List<CommentData> comments = commentReadService.findByArticleId(articleId);
-    if (comments.size() > 0 && user != null) {
-      Set<String> followingAuthors =
-          userRelationshipQueryService.followingAuthors(
-              user.getId(),
-              comments.stream()
-                  .map(commentData -> commentData.getProfileData().getId())
-                  .collect(Collectors.toList()));
-      comments.forEach(
-          commentData -> {
-            if (followingAuthors.contains(commentData.getProfileData().getId())) {
-              commentData.getProfileData().setFollowing(true);
-            }
-          });
-    }
+    setFollowing(comments, user);
     return comments;
   }
 
@@ -59,20 +65,51 @@ public class CommentQueryService {
     if (comments.isEmpty()) {
       return new CursorPager<>(new ArrayList<>(), page.getDirection(), false);
     }
-    if (user != null) {
-      Set<String> followingAuthors =
-          userRelationshipQueryService.followingAuthors(
-              user.getId(),
-              comments.stream()
-                  .map(commentData -> commentData.getProfileData().getId())
-                  .collect(Collectors.toList()));
-      comments.forEach(
-          commentData -> {
-            if (followingAuthors.contains(commentData.getProfileData().getId())) {
-              commentData.getProfileData().setFollowing(true);
-            }
-          });
+    setFollowing(comments, user);
+    return toPager(comments, page);
+  }
+
+  /**
+   * The same page of comments for each of the given articles, read with one windowed query and
+   * one follow lookup for all comment authors. Articles without comments map to an empty page.
+   */
+  public Map<String, CursorPager<CommentData>> findByArticleIdsWithCursor(
+      Collection<String> articleIds, User user, CursorPageParameter<DateTime> page) {
+    Map<String, CursorPager<CommentData>> result = new HashMap<>();
+    if (articleIds.isEmpty()) {
+      return result;
+    }
+    List<CommentData> comments = commentReadService.findByArticleIdsWithCursor(articleIds, page);
+    setFollowing(comments, user);
+    Map<String, List<CommentData>> byArticle =
+        comments.stream().collect(Collectors.groupingBy(CommentData::getArticleId));
+    for (String articleId : articleIds) {
+      result.put(articleId, toPager(byArticle.getOrDefault(articleId, new ArrayList<>()), page));
     }
+    return result;
+  }
+
+  private void setFollowing(List<CommentData> comments, User user) {
+    if (comments.isEmpty() || user == null) {
+      return;
+    }
+    Set<String> followingAuthors =
+        userRelationshipQueryService.followingAuthors(
+            user.getId(),
+            comments.stream()
+                .map(commentData -> commentData.getProfileData().getId())
+                .distinct()
+                .collect(Collectors.toList()));
+    comments.forEach(
+        commentData -> {
+          if (followingAuthors.contains(commentData.getProfileData().getId())) {
+            commentData.getProfileData().setFollowing(true);
+          }
+        });
+  }
+
+  private CursorPager<CommentData> toPager(
+      List<CommentData> comments, CursorPageParameter<DateTime> page) {
     boolean hasExtra = comments.size() > page.getLimit();
     if (hasExtra) {
       comments.remove(page.getLimit());
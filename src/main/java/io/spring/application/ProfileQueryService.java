@@ -5,7 +5,14 @@ import io.spring.application.data.UserData;
 import io.spring.core.user.User;
 import io.spring.infrastructure.mybatis.readservice.UserReadService;
 import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -32,4 +39,29 @@ public class ProfileQueryService {
       return Optional.of(profileData);
     }
   }
+
+  /** Profiles of the given users keyed by id, with one user query and one follow lookup. */
+  public Map<String, ProfileData> findByIds(Collection<String> ids, User currentUser) {
+    Map<String, ProfileData> profiles = new HashMap<>();
+    if (ids.isEmpty()) {
+      return profiles;
+    }
+    List<UserData> users = userReadService.findByIds(ids);
+    Set<String> following =
+        currentUser == null
+            ? Collections.emptySet()
+            : userRelationshipQueryService.followingAuthors(
+                currentUser.getId(), new ArrayList<>(ids));
+    for (UserData userData : users) {
+      profiles.put(
+          userData.getId(),
+          new ProfileData(
+              userData.getId(),
+              userData.getUsername(),
+              userData.getBio(),
+              userData.getImage(),
+              following.contains(userData.getId())));
+    }
+    return profiles;
+  }
 }
@@ -0,0 +1,138 @@
+package io.spring.application;
+
+import io.spring.application.data.ResourceStamp;
+import io.spring.application.data.ResourceVersion;
+import io.spring.core.user.User;
+import io.spring.infrastructure.memory.FavoriteCounters;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.ProfileVersions;
+import io.spring.infrastructure.memory.TagUsageIndex;
+import io.spring.infrastructure.mybatis.readservice.ArticleFavoritesReadService;
+import io.spring.infrastructure.mybatis.readservice.ResourceVersionReadService;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Entity tags for the polled read endpoints. They are derived from row version data and the
+ * in-memory counters only, so a poll that ends in 304 never loads or serializes the payload.
+ *
+ * <p>A last-modified time is only reported where every input has a known change time. Comments and
+ * tags can change without leaving one (deletes, new tag rows), so they are validated by ETag alone.
+ */
+@Service
+@AllArgsConstructor
+public class ResourceVersionQueryService {
+  private ResourceVersionReadService resourceVersionReadService;
+  private ArticleFavoritesReadService articleFavoritesReadService;
+  private FavoriteCounters favoriteCounters;
+  private FollowGraph followGraph;
+  private ProfileVersions profileVersions;
+  private TagUsageIndex tagUsageIndex;
+
+  public Optional<ResourceVersion> article(String slug, User viewer) {
+    ResourceStamp stamp = resourceVersionReadService.articleStamp(slug);
+    if (stamp == null) {
+      return Optional.empty();
+    }
+    StringBuilder key =
+        key("article", stamp.getId())
+            .append(':')
+            .append(millis(stamp))
+            .append(':')
+            .append(profileVersions.version(stamp.getOwnerId()))
+            .append(':')
+            .append(favoriteCounters.count(stamp.getId()));
+    if (viewer != null) {
+      key.append(':')
+          .append(viewer.getId())
+          .append(':')
+          .append(articleFavoritesReadService.isUserFavorite(viewer.getId(), stamp.getId()))
+          .append(':')
+          .append(followGraph.isFollowing(viewer.getId(), stamp.getOwnerId()));
+    }
+    long lastModified =
+        max(
+            millis(stamp),
+            profileVersions.changedAt(stamp.getOwnerId()),
+            favoriteCounters.changedAt(stamp.getId()));
+    return Optional.of(version(key, lastModified));
+  }
+
+  public Optional<ResourceVersion> profile(String username, User viewer) {
+    ResourceStamp stamp = resourceVersionReadService.profileStamp(username);
+    if (stamp == null) {
+      return Optional.empty();
+    }
+    StringBuilder key =
+        key("profile", stamp.getId()).append(':').append(profileVersions.version(stamp.getId()));
+    if (viewer != null) {
+      key.append(':')
+          .append(viewer.getId())
+          .append(':')
+          .append(followGraph.isFollowing(viewer.getId(), stamp.getId()));
+    }
+    return Optional.of(version(key, profileVersions.changedAt(stamp.getId())));
+  }
+
+  public Optional<ResourceVersion> comments(String slug, User viewer) {
+    ResourceStamp stamp = resourceVersionReadService.commentsStamp(slug);
+    if (stamp == null) {
+      return Optional.empty();
+    }
+    StringBuilder key =
+        key("comments", stamp.getId())
+            .append(':')
+            .append(stamp.getCount())
+            .append(':')
+            .append(millis(stamp))
+            .append(':')
+            .append(profileVersions.globalVersion());
+    if (viewer != null) {
+      key.append(':')
+          .append(viewer.getId())
+          .append(':')
+          .append(followGraph.followingVersion(viewer.getId()));
+    }
+    return Optional.of(version(key, 0));
+  }
+
+  public Optional<ResourceVersion> tags() {
+    ResourceStamp stamp = resourceVersionReadService.tagsStamp();
+    StringBuilder key =
+        key("tags", "")
+            .append(':')
+            .append(stamp.getCount())
+            .append(':')
+            .append(tagUsageIndex.version());
+    return Optional.of(version(key, 0));
+  }
+
+  private StringBuilder key(String type, String id) {
+    return new StringBuilder(128)
+        .append(profileVersions.epoch())
+        .append(':')
+        .append(type)
+        .append(':')
+        .append(id);
+  }
+
+  private static long millis(ResourceStamp stamp) {
+    return stamp.getLastModified() == null ? 0 : stamp.getLastModified().getMillis();
+  }
+
+  private static long max(long... values) {
+    long max = 0;
+    for (long value : values) {
+      max = Math.max(max, value);
+    }
+    return max;
+  }
+
+  private static ResourceVersion version(StringBuilder key, long lastModified) {
+    String hash = DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    return new ResourceVersion("\"" + hash + "\"", lastModified);
+  }
+}
@@ -1,5 +1,6 @@
 package io.spring.application;
 
+import io.spring.infrastructure.memory.TagUsageIndex;
 import io.spring.infrastructure.mybatis.readservice.TagReadService;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -8,9 +9,16 @@ import org.springframework.stereotype.Service;
 @Service
 @AllArgsConstructor
 public class TagsQueryService {
+  private static final int MAX_TOP = 100;
   private TagReadService tagReadService;
+  private TagUsageIndex tagUsageIndex;
 
   public List<String> allTags() {
     return tagReadService.all();
   }
+
+  /** The {@code n} tags used by the most articles, at most {@value #MAX_TOP}. */
+  public List<String> topTags(int n) {
+    return tagUsageIndex.top(Math.max(0, Math.min(n, MAX_TOP)));
+  }
 }
@@ -0,0 +1,11 @@
+package io.spring.application.data;
+
+import lombok.Value;
+import org.joda.time.DateTime;
+
+@Value
+public class ArticleHeader {
+  private String id;
+  private String userId;
+  private DateTime createdAt;
+}
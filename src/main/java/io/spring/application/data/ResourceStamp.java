@@ -0,0 +1,14 @@
+package io.spring.application.data;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.joda.time.DateTime;
+
+@Data
+@NoArgsConstructor
+public class ResourceStamp {
+  private String id;
+  private String ownerId;
+  private long count;
+  private DateTime lastModified;
+}
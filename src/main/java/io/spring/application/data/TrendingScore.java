@@ -0,0 +1,10 @@
+package io.spring.application.data;
+
+import lombok.Value;
+
+@Value
+public class TrendingScore {
+  private String articleId;
+  private Double score;
+  private Long computedAt;
+}
@@ -0,0 +1,8 @@
+package io.spring.core.event;
+
+import lombok.Value;
+
+@Value
+public class ArticleDeletedEvent {
+  private String articleId;
+}
@@ -0,0 +1,9 @@
+package io.spring.core.event;
+
+import lombok.Value;
+
+@Value
+public class ArticleUnfavoritedEvent {
+  private String articleId;
+  private String userId;
+}
@@ -0,0 +1,10 @@
+package io.spring.core.event;
+
+import lombok.Value;
+
+@Value
+public class CommentAddedEvent {
+  private String commentId;
+  private String articleId;
+  private String userId;
+}
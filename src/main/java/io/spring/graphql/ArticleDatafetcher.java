@@ -9,35 +9,59 @@ import graphql.execution.DataFetcherResult;
 import graphql.relay.DefaultConnectionCursor;
 import graphql.relay.DefaultPageInfo;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import io.spring.IsoTimestamps;
 import io.spring.api.exception.ResourceNotFoundException;
+import io.spring.application.ArticleFields;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
 import io.spring.application.CursorPager.Direction;
 import io.spring.application.DateTimeCursor;
+import io.spring.application.Page;
 import io.spring.application.data.ArticleData;
+import io.spring.application.data.ArticleDataList;
 import io.spring.application.data.CommentData;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.event.ArticleViewedEvent;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
+import io.spring.graphql.DgsConstants.ARTICLE;
 import io.spring.graphql.DgsConstants.ARTICLEPAYLOAD;
 import io.spring.graphql.DgsConstants.COMMENT;
 import io.spring.graphql.DgsConstants.PROFILE;
 import io.spring.graphql.DgsConstants.QUERY;
+import io.spring.graphql.DgsConstants.SUBSCRIPTION;
+import io.spring.graphql.dataloader.ArticleDataLoader;
+import io.spring.graphql.exception.BadRequestException;
 import io.spring.graphql.types.Article;
 import io.spring.graphql.types.ArticleEdge;
 import io.spring.graphql.types.ArticlesConnection;
+import io.spring.graphql.types.Comment;
+import io.spring.graphql.types.FavoritesChange;
 import io.spring.graphql.types.Profile;
+import io.spring.infrastructure.broker.ArticleActivity;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
-import org.joda.time.format.ISODateTimeFormat;
+import org.dataloader.DataLoader;
+import org.reactivestreams.Publisher;
+import org.springframework.context.ApplicationEventPublisher;
 
 @DgsComponent
 @AllArgsConstructor
 public class ArticleDatafetcher {
+  private static final String CONNECTION_NODE = "edges/node/";
 
   private ArticleQueryService articleQueryService;
   private UserRepository userRepository;
+  private ApplicationEventPublisher eventPublisher;
+  private ArticleRepository articleRepository;
+  private ArticleActivity articleActivity;
 
   @DgsQuery(field = QUERY.Feed)
   public DataFetcherResult<ArticlesConnection> getFeed(
@@ -57,12 +81,14 @@ public class ArticleDatafetcher {
       articles =
           articleQueryService.findUserFeedWithCursor(
               current,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     } else {
       articles =
           articleQueryService.findUserFeedWithCursor(
               current,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -107,12 +133,14 @@ public class ArticleDatafetcher {
       articles =
           articleQueryService.findUserFeedWithCursor(
               target,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     } else {
       articles =
           articleQueryService.findUserFeedWithCursor(
               target,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -157,7 +185,8 @@ public class ArticleDatafetcher {
               null,
               profile.getUsername(),
               new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              current,
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
@@ -165,7 +194,8 @@ public class ArticleDatafetcher {
               null,
               profile.getUsername(),
               new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              current,
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
 
@@ -211,7 +241,8 @@ public class ArticleDatafetcher {
               profile.getUsername(),
               null,
               new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              current,
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
@@ -219,7 +250,8 @@ public class ArticleDatafetcher {
               profile.getUsername(),
               null,
               new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              current,
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -266,7 +298,8 @@ public class ArticleDatafetcher {
               authoredBy,
               favoritedBy,
               new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT),
-              current);
+              current,
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     } else {
       articles =
           articleQueryService.findRecentArticlesWithCursor(
@@ -274,7 +307,8 @@ public class ArticleDatafetcher {
               authoredBy,
               favoritedBy,
               new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV),
-              current);
+              current,
+              selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
     }
     graphql.relay.PageInfo pageInfo = buildArticlePageInfo(articles);
     ArticlesConnection articlesConnection =
@@ -297,6 +331,69 @@ public class ArticleDatafetcher {
         .build();
   }
 
+  @DgsQuery(field = QUERY.Trending)
+  public DataFetcherResult<ArticlesConnection> getTrending(
+      @InputArgument("first") Integer first,
+      @InputArgument("after") String after,
+      DgsDataFetchingEnvironment dfe) {
+    int offset = offsetAfter(after);
+    User current = SecurityUtil.getCurrentUser().orElse(null);
+    ArticleDataList trending =
+        articleQueryService.findTrending(
+            new Page(offset, first == null ? 20 : first),
+            current,
+            selectedFields(dfe.getSelectionSet(), CONNECTION_NODE));
+
+    List<ArticleEdge> edges = new ArrayList<>();
+    List<ArticleData> articles = trending.getArticleDatas();
+    for (int i = 0; i < articles.size(); i++) {
+      edges.add(
+          ArticleEdge.newBuilder()
+              .cursor(String.valueOf(offset + i))
+              .node(buildArticleResult(articles.get(i)))
+              .build());
+    }
+    graphql.relay.PageInfo pageInfo =
+        new DefaultPageInfo(
+            edges.isEmpty() ? null : new DefaultConnectionCursor(edges.get(0).getCursor()),
+            edges.isEmpty()
+                ? null
+                : new DefaultConnectionCursor(edges.get(edges.size() - 1).getCursor()),
+            offset > 0,
+            offset + articles.size() < trending.getCount());
+    return DataFetcherResult.<ArticlesConnection>newResult()
+        .data(ArticlesConnection.newBuilder().pageInfo(pageInfo).edges(edges).build())
+        .localContext(articles.stream().collect(Collectors.toMap(ArticleData::getSlug, a -> a)))
+        .build();
+  }
+
+  @DgsData(parentType = ARTICLE.TYPE_NAME, field = ARTICLE.Related)
+  public DataFetcherResult<List<Article>> getRelated(
+      @InputArgument("first") Integer first, DgsDataFetchingEnvironment dfe) {
+    Article article = dfe.getSource();
+    User current = SecurityUtil.getCurrentUser().orElse(null);
+    int k = first == null ? 5 : Math.max(0, Math.min(first, 50));
+    List<ArticleData> related =
+        articleQueryService.findRelated(
+            article.getSlug(), k, current, selectedFields(dfe.getSelectionSet(), ""));
+    return DataFetcherResult.<List<Article>>newResult()
+        .data(related.stream().map(this::buildArticleResult).collect(Collectors.toList()))
+        .localContext(related.stream().collect(Collectors.toMap(ArticleData::getSlug, a -> a)))
+        .build();
+  }
+
+  @DgsQuery(field = QUERY.ArticlesBySlugs)
+  public DataFetcherResult<List<Article>> findArticlesBySlugs(
+      @InputArgument("slugs") List<String> slugs, DgsDataFetchingEnvironment dfe) {
+    User current = SecurityUtil.getCurrentUser().orElse(null);
+    List<ArticleData> articles =
+        articleQueryService.findBySlugs(slugs, current, selectedFields(dfe.getSelectionSet(), ""));
+    return DataFetcherResult.<List<Article>>newResult()
+        .data(articles.stream().map(this::buildArticleResult).collect(Collectors.toList()))
+        .localContext(articles.stream().collect(Collectors.toMap(ArticleData::getSlug, a -> a)))
+        .build();
+  }
+
   @DgsData(parentType = ARTICLEPAYLOAD.TYPE_NAME, field = ARTICLEPAYLOAD.Article)
   public DataFetcherResult<Article> getArticle(DataFetchingEnvironment dfe) {
     io.spring.core.article.Article article = dfe.getLocalContext();
@@ -319,24 +416,30 @@ public class ArticleDatafetcher {
   }
 
   @DgsData(parentType = COMMENT.TYPE_NAME, field = COMMENT.Article)
-  public DataFetcherResult<Article> getCommentArticle(
+  public CompletableFuture<DataFetcherResult<Article>> getCommentArticle(
       DataFetchingEnvironment dataFetchingEnvironment) {
-    CommentData comment = dataFetchingEnvironment.getLocalContext();
+    Comment comment = dataFetchingEnvironment.getSource();
+    Map<String, CommentData> map = dataFetchingEnvironment.getLocalContext();
     User current = SecurityUtil.getCurrentUser().orElse(null);
-    ArticleData articleData =
-        articleQueryService
-            .findById(comment.getArticleId(), current)
-            .orElseThrow(ResourceNotFoundException::new);
-    Article articleResult = buildArticleResult(articleData);
-    return DataFetcherResult.<Article>newResult()
-        .localContext(
-            new HashMap<String, Object>() {
-              {
-                put(articleData.getSlug(), articleData);
+    DataLoader<String, ArticleData> articles =
+        dataFetchingEnvironment.getDataLoader(ArticleDataLoader.NAME);
+    return articles
+        .load(map.get(comment.getId()).getArticleId(), current)
+        .thenApply(
+            articleData -> {
+              if (articleData == null) {
+                throw new ResourceNotFoundException();
               }
-            })
-        .data(articleResult)
-        .build();
+              return DataFetcherResult.<Article>newResult()
+                  .localContext(
+                      new HashMap<String, Object>() {
+                        {
+                          put(articleData.getSlug(), articleData);
+                        }
+                      })
+                  .data(buildArticleResult(articleData))
+                  .build();
+            });
   }
 
   @DgsQuery(field = QUERY.Article)
@@ -344,6 +447,7 @@ public class ArticleDatafetcher {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ArticleData articleData =
         articleQueryService.findBySlug(slug, current).orElseThrow(ResourceNotFoundException::new);
+    eventPublisher.publishEvent(new ArticleViewedEvent(articleData.getId()));
     Article articleResult = buildArticleResult(articleData);
     return DataFetcherResult.<Article>newResult()
         .localContext(
@@ -356,6 +460,52 @@ public class ArticleDatafetcher {
         .build();
   }
 
+  @DgsData(parentType = SUBSCRIPTION.TYPE_NAME, field = SUBSCRIPTION.FavoritesChanged)
+  public Publisher<FavoritesChange> favoritesChanged(@InputArgument("slug") String slug) {
+    String articleId =
+        articleRepository
+            .findBySlug(slug)
+            .map(io.spring.core.article.Article::getId)
+            .orElseThrow(ResourceNotFoundException::new);
+    return articleActivity
+        .favoritesCounts(articleId)
+        .map(count -> FavoritesChange.newBuilder().slug(slug).favoritesCount(count).build());
+  }
+
+  /** Trending cursors are the zero-based position of an edge in the ranking. */
+  private static int offsetAfter(String after) {
+    if (after == null) {
+      return 0;
+    }
+    int position;
+    try {
+      position = Integer.parseInt(after);
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("invalid cursor: " + after);
+    }
+    if (position < 0 || position == Integer.MAX_VALUE) {
+      throw new BadRequestException("invalid cursor: " + after);
+    }
+    return position + 1;
+  }
+
+  /**
+   * The article fields selected below {@code prefix}. Selecting comments loads everything, since
+   * the comments fetcher primes the request's article loader with the parent article.
+   */
+  private static ArticleFields selectedFields(
+      DataFetchingFieldSelectionSet selectionSet, String prefix) {
+    if (selectionSet.contains(prefix + ARTICLE.Comments)) {
+      return ArticleFields.ALL;
+    }
+    return new ArticleFields(
+        selectionSet.contains(prefix + ARTICLE.Body),
+        selectionSet.contains(prefix + ARTICLE.TagList),
+        selectionSet.contains(prefix + ARTICLE.Author),
+        selectionSet.contains(prefix + ARTICLE.FavoritesCount),
+        selectionSet.contains(prefix + ARTICLE.Favorited));
+  }
+
   private DefaultPageInfo buildArticlePageInfo(CursorPager<ArticleData> articles) {
     return new DefaultPageInfo(
         articles.getStartCursor() == null
@@ -371,14 +521,14 @@ public class ArticleDatafetcher {
   private Article buildArticleResult(ArticleData articleData) {
     return Article.newBuilder()
         .body(articleData.getBody())
-        .createdAt(ISODateTimeFormat.dateTime().withZoneUTC().print(articleData.getCreatedAt()))
+        .createdAt(IsoTimestamps.format(articleData.getCreatedAt()))
         .description(articleData.getDescription())
         .favorited(articleData.isFavorited())
         .favoritesCount(articleData.getFavoritesCount())
         .slug(articleData.getSlug())
         .tagList(articleData.getTagList())
         .title(articleData.getTitle())
-        .updatedAt(ISODateTimeFormat.dateTime().withZoneUTC().print(articleData.getUpdatedAt()))
+        .updatedAt(IsoTimestamps.format(articleData.getUpdatedAt()))
         .build();
   }
 }
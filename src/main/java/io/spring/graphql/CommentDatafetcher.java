@@ -7,6 +7,8 @@ import com.netflix.graphql.dgs.InputArgument;
 import graphql.execution.DataFetcherResult;
 import graphql.relay.DefaultConnectionCursor;
 import graphql.relay.DefaultPageInfo;
+import io.spring.IsoTimestamps;
+import io.spring.api.exception.ResourceNotFoundException;
 import io.spring.application.CommentQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
@@ -14,23 +16,34 @@ import io.spring.application.CursorPager.Direction;
 import io.spring.application.DateTimeCursor;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.CommentData;
+import io.spring.core.article.ArticleRepository;
 import io.spring.core.user.User;
 import io.spring.graphql.DgsConstants.ARTICLE;
 import io.spring.graphql.DgsConstants.COMMENTPAYLOAD;
+import io.spring.graphql.DgsConstants.SUBSCRIPTION;
+import io.spring.graphql.dataloader.ArticleDataLoader;
+import io.spring.graphql.dataloader.CommentsDataLoader;
 import io.spring.graphql.types.Article;
 import io.spring.graphql.types.Comment;
 import io.spring.graphql.types.CommentEdge;
 import io.spring.graphql.types.CommentsConnection;
+import io.spring.infrastructure.broker.ArticleActivity;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
-import org.joda.time.format.ISODateTimeFormat;
+import org.dataloader.DataLoader;
+import org.joda.time.DateTime;
+import org.reactivestreams.Publisher;
 
 @DgsComponent
 @AllArgsConstructor
 public class CommentDatafetcher {
   private CommentQueryService commentQueryService;
+  private ArticleRepository articleRepository;
+  private ArticleActivity articleActivity;
 
   @DgsData(parentType = COMMENTPAYLOAD.TYPE_NAME, field = COMMENTPAYLOAD.Comment)
   public DataFetcherResult<Comment> getComment(DgsDataFetchingEnvironment dfe) {
@@ -48,7 +61,7 @@ public class CommentDatafetcher {
   }
 
   @DgsData(parentType = ARTICLE.TYPE_NAME, field = ARTICLE.Comments)
-  public DataFetcherResult<CommentsConnection> articleComments(
+  public CompletableFuture<DataFetcherResult<CommentsConnection>> articleComments(
       @InputArgument("first") Integer first,
       @InputArgument("after") String after,
       @InputArgument("last") Integer last,
@@ -64,20 +77,43 @@ public class CommentDatafetcher {
     Map<String, ArticleData> map = dfe.getLocalContext();
     ArticleData articleData = map.get(article.getSlug());
 
-    CursorPager<CommentData> comments;
+    CursorPageParameter<DateTime> page;
     if (first != null) {
-      comments =
-          commentQueryService.findByArticleIdWithCursor(
-              articleData.getId(),
-              current,
-              new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT));
+      page = new CursorPageParameter<>(DateTimeCursor.parse(after), first, Direction.NEXT);
     } else {
-      comments =
-          commentQueryService.findByArticleIdWithCursor(
-              articleData.getId(),
-              current,
-              new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV));
+      page = new CursorPageParameter<>(DateTimeCursor.parse(before), last, Direction.PREV);
     }
+    DataLoader<String, ArticleData> articles = dfe.getDataLoader(ArticleDataLoader.NAME);
+    articles.prime(articleData.getId(), articleData);
+    DataLoader<CommentsDataLoader.Key, CursorPager<CommentData>> loader =
+        dfe.getDataLoader(CommentsDataLoader.NAME);
+    return loader
+        .load(new CommentsDataLoader.Key(articleData.getId(), page), current)
+        .thenApply(this::buildCommentsConnection);
+  }
+
+  @DgsData(parentType = SUBSCRIPTION.TYPE_NAME, field = SUBSCRIPTION.CommentAdded)
+  public Publisher<DataFetcherResult<Comment>> commentAdded(@InputArgument("slug") String slug) {
+    String articleId =
+        articleRepository
+            .findBySlug(slug)
+            .map(io.spring.core.article.Article::getId)
+            .orElseThrow(ResourceNotFoundException::new);
+    User current = SecurityUtil.getCurrentUser().orElse(null);
+    return articleActivity
+        .commentsAdded(articleId)
+        .map(
+            comment -> {
+              CommentData viewed = commentQueryService.forViewer(comment, current);
+              return DataFetcherResult.<Comment>newResult()
+                  .data(buildCommentResult(viewed))
+                  .localContext(Collections.singletonMap(viewed.getId(), viewed))
+                  .build();
+            });
+  }
+
+  private DataFetcherResult<CommentsConnection> buildCommentsConnection(
+      CursorPager<CommentData> comments) {
     graphql.relay.PageInfo pageInfo = buildCommentPageInfo(comments);
     CommentsConnection result =
         CommentsConnection.newBuilder()
@@ -112,11 +148,12 @@ public class CommentDatafetcher {
   }
 
   private Comment buildCommentResult(CommentData comment) {
+    String createdAt = IsoTimestamps.format(comment.getCreatedAt());
     return Comment.newBuilder()
         .id(comment.getId())
         .body(comment.getBody())
-        .updatedAt(ISODateTimeFormat.dateTime().withZoneUTC().print(comment.getCreatedAt()))
-        .createdAt(ISODateTimeFormat.dateTime().withZoneUTC().print(comment.getCreatedAt()))
+        .updatedAt(createdAt)
+        .createdAt(createdAt)
         .build();
   }
 }
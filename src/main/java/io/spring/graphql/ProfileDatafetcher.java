@@ -14,12 +14,15 @@ import io.spring.graphql.DgsConstants.ARTICLE;
 import io.spring.graphql.DgsConstants.COMMENT;
 import io.spring.graphql.DgsConstants.QUERY;
 import io.spring.graphql.DgsConstants.USER;
+import io.spring.graphql.dataloader.ProfileDataLoader;
 import io.spring.graphql.types.Article;
 import io.spring.graphql.types.Comment;
 import io.spring.graphql.types.Profile;
 import io.spring.graphql.types.ProfilePayload;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.AllArgsConstructor;
+import org.dataloader.DataLoader;
 
 @DgsComponent
 @AllArgsConstructor
@@ -28,24 +31,27 @@ public class ProfileDatafetcher {
   private ProfileQueryService profileQueryService;
 
   @DgsData(parentType = USER.TYPE_NAME, field = USER.Profile)
-  public Profile getUserProfile(DataFetchingEnvironment dataFetchingEnvironment) {
+  public CompletableFuture<Profile> getUserProfile(
+      DataFetchingEnvironment dataFetchingEnvironment) {
     User user = dataFetchingEnvironment.getLocalContext();
-    String username = user.getUsername();
-    return queryProfile(username);
+    return loadProfile(user.getId(), null, dataFetchingEnvironment);
   }
 
   @DgsData(parentType = ARTICLE.TYPE_NAME, field = ARTICLE.Author)
-  public Profile getAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
+  public CompletableFuture<Profile> getAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
     Map<String, ArticleData> map = dataFetchingEnvironment.getLocalContext();
     Article article = dataFetchingEnvironment.getSource();
-    return queryProfile(map.get(article.getSlug()).getProfileData().getUsername());
+    ProfileData author = map.get(article.getSlug()).getProfileData();
+    return loadProfile(author.getId(), author, dataFetchingEnvironment);
   }
 
   @DgsData(parentType = COMMENT.TYPE_NAME, field = COMMENT.Author)
-  public Profile getCommentAuthor(DataFetchingEnvironment dataFetchingEnvironment) {
+  public CompletableFuture<Profile> getCommentAuthor(
+      DataFetchingEnvironment dataFetchingEnvironment) {
     Comment comment = dataFetchingEnvironment.getSource();
     Map<String, CommentData> map = dataFetchingEnvironment.getLocalContext();
-    return queryProfile(map.get(comment.getId()).getProfileData().getUsername());
+    ProfileData author = map.get(comment.getId()).getProfileData();
+    return loadProfile(author.getId(), author, dataFetchingEnvironment);
   }
 
   @DgsData(parentType = DgsConstants.QUERY_TYPE, field = QUERY.Profile)
@@ -55,12 +61,38 @@ public class ProfileDatafetcher {
     return ProfilePayload.newBuilder().profile(profile).build();
   }
 
+  /**
+   * Resolves a profile through the per-request {@link ProfileDataLoader}. Profiles the parent
+   * query already loaded, following flag included, are primed instead of fetched again.
+   */
+  private CompletableFuture<Profile> loadProfile(
+      String userId, ProfileData loaded, DataFetchingEnvironment dataFetchingEnvironment) {
+    DataLoader<String, ProfileData> profiles =
+        dataFetchingEnvironment.getDataLoader(ProfileDataLoader.NAME);
+    if (loaded != null) {
+      profiles.prime(userId, loaded);
+    }
+    return profiles
+        .load(userId, SecurityUtil.getCurrentUser().orElse(null))
+        .thenApply(
+            profileData -> {
+              if (profileData == null) {
+                throw new ResourceNotFoundException();
+              }
+              return buildProfile(profileData);
+            });
+  }
+
   private Profile queryProfile(String username) {
     User current = SecurityUtil.getCurrentUser().orElse(null);
     ProfileData profileData =
         profileQueryService
             .findByUsername(username, current)
             .orElseThrow(ResourceNotFoundException::new);
+    return buildProfile(profileData);
+  }
+
+  private static Profile buildProfile(ProfileData profileData) {
     return Profile.newBuilder()
         .username(profileData.getUsername())
         .bio(profileData.getBio())
@@ -2,6 +2,7 @@ package io.spring.graphql;
 
 import com.netflix.graphql.dgs.DgsComponent;
 import com.netflix.graphql.dgs.DgsData;
+import com.netflix.graphql.dgs.InputArgument;
 import io.spring.application.TagsQueryService;
 import io.spring.graphql.DgsConstants.QUERY;
 import java.util.List;
@@ -13,7 +14,7 @@ public class TagDatafetcher {
   private TagsQueryService tagsQueryService;
 
   @DgsData(parentType = DgsConstants.QUERY_TYPE, field = QUERY.Tags)
-  public List<String> getTags() {
-    return tagsQueryService.allTags();
+  public List<String> getTags(@InputArgument("first") Integer first) {
+    return first == null ? tagsQueryService.allTags() : tagsQueryService.topTags(first);
   }
 }
@@ -0,0 +1,39 @@
+package io.spring.graphql.dataloader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import io.spring.application.ArticleQueryService;
+import io.spring.application.data.ArticleData;
+import io.spring.core.user.User;
+import io.spring.graphql.instrumentation.FieldTimingInstrumentation;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import lombok.AllArgsConstructor;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.MappedBatchLoaderWithContext;
+
+/** Loads articles by id, so comments of the same article resolve it once per request. */
+@DgsDataLoader(name = ArticleDataLoader.NAME)
+@AllArgsConstructor
+public class ArticleDataLoader implements MappedBatchLoaderWithContext<String, ArticleData> {
+  public static final String NAME = "articles";
+
+  private ArticleQueryService articleQueryService;
+  private FieldTimingInstrumentation fieldTiming;
+
+  @Override
+  public CompletionStage<Map<String, ArticleData>> load(
+      Set<String> articleIds, BatchLoaderEnvironment environment) {
+    User currentUser =
+        (User)
+            environment.getKeyContexts().values().stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    return CompletableFuture.completedFuture(
+        fieldTiming.recordBatch(
+            NAME, () -> articleQueryService.findByIds(articleIds, currentUser)));
+  }
+}
@@ -0,0 +1,70 @@
+package io.spring.graphql.dataloader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import io.spring.application.CommentQueryService;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager;
+import io.spring.application.data.CommentData;
+import io.spring.core.user.User;
+import io.spring.graphql.instrumentation.FieldTimingInstrumentation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.MappedBatchLoaderWithContext;
+import org.joda.time.DateTime;
+
+/**
+ * Loads a page of comments for every article in a GraphQL response at once. Keys asking for the
+ * same page, which is every key of an ordinary connection query, share one windowed query.
+ */
+@DgsDataLoader(name = CommentsDataLoader.NAME)
+@AllArgsConstructor
+public class CommentsDataLoader
+    implements MappedBatchLoaderWithContext<CommentsDataLoader.Key, CursorPager<CommentData>> {
+  public static final String NAME = "articleComments";
+
+  private CommentQueryService commentQueryService;
+  private FieldTimingInstrumentation fieldTiming;
+
+  @Override
+  public CompletionStage<Map<Key, CursorPager<CommentData>>> load(
+      Set<Key> keys, BatchLoaderEnvironment environment) {
+    User currentUser =
+        (User)
+            environment.getKeyContexts().values().stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    Map<CursorPageParameter<DateTime>, List<String>> articlesByPage = new HashMap<>();
+    for (Key key : keys) {
+      articlesByPage.computeIfAbsent(key.getPage(), p -> new ArrayList<>()).add(key.getArticleId());
+    }
+    return CompletableFuture.completedFuture(
+        fieldTiming.recordBatch(
+            NAME,
+            () -> {
+              Map<Key, CursorPager<CommentData>> result = new HashMap<>();
+              articlesByPage.forEach(
+                  (page, articleIds) ->
+                      commentQueryService
+                          .findByArticleIdsWithCursor(articleIds, currentUser, page)
+                          .forEach(
+                              (articleId, pager) -> result.put(new Key(articleId, page), pager)));
+              return result;
+            }));
+  }
+
+  @Value
+  public static class Key {
+    private String articleId;
+    private CursorPageParameter<DateTime> page;
+  }
+}
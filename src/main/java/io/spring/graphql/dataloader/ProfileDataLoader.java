@@ -0,0 +1,41 @@
+package io.spring.graphql.dataloader;
+
+import com.netflix.graphql.dgs.DgsDataLoader;
+import io.spring.application.ProfileQueryService;
+import io.spring.application.data.ProfileData;
+import io.spring.core.user.User;
+import io.spring.graphql.instrumentation.FieldTimingInstrumentation;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import lombok.AllArgsConstructor;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.MappedBatchLoaderWithContext;
+
+/**
+ * Loads profiles by user id for every author in a GraphQL response at once. The viewer is passed
+ * as the key context so the batch does not depend on which thread dispatches it.
+ */
+@DgsDataLoader(name = ProfileDataLoader.NAME)
+@AllArgsConstructor
+public class ProfileDataLoader implements MappedBatchLoaderWithContext<String, ProfileData> {
+  public static final String NAME = "profiles";
+
+  private ProfileQueryService profileQueryService;
+  private FieldTimingInstrumentation fieldTiming;
+
+  @Override
+  public CompletionStage<Map<String, ProfileData>> load(
+      Set<String> userIds, BatchLoaderEnvironment environment) {
+    User currentUser =
+        (User)
+            environment.getKeyContexts().values().stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    return CompletableFuture.completedFuture(
+        fieldTiming.recordBatch(NAME, () -> profileQueryService.findByIds(userIds, currentUser)));
+  }
+}
@@ -0,0 +1,74 @@
+package io.spring.graphql.document;
+
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps parsed and validated documents keyed by the SHA-256 of their query text, so a repeated
+ * operation skips both steps. Documents that failed to parse or validate are not kept. Hits,
+ * misses and the hit ratio are published as {@code graphql.document.cache.*}.
+ *
+ * <p>A document is only valid against the schema it was validated with, so every {@link GraphQL}
+ * over another schema needs a cache of its own; the {@code schema} tag tells their meters apart.
+ */
+@Component
+public class DocumentCache implements PreparsedDocumentProvider {
+  private final LruCache<String, PreparsedDocumentEntry> documents;
+  private final Counter hits;
+  private final Counter misses;
+
+  @Autowired
+  public DocumentCache(
+      @Value("${graphql.document-cache.max-entries:500}") int maxEntries,
+      MeterRegistry meterRegistry) {
+    this("dgs", maxEntries, meterRegistry);
+  }
+
+  public DocumentCache(String schema, int maxEntries, MeterRegistry meterRegistry) {
+    this.documents = new LruCache<>(maxEntries);
+    this.hits =
+        meterRegistry.counter(
+            "graphql.document.cache.requests", "schema", schema, "result", "hit");
+    this.misses =
+        meterRegistry.counter(
+            "graphql.document.cache.requests", "schema", schema, "result", "miss");
+    Gauge.builder("graphql.document.cache.hit.ratio", this, DocumentCache::hitRatio)
+        .tag("schema", schema)
+        .register(meterRegistry);
+    Gauge.builder("graphql.document.cache.size", documents, LruCache::size)
+        .tag("schema", schema)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public PreparsedDocumentEntry getDocument(
+      ExecutionInput executionInput,
+      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+    String key = QueryHashes.sha256(executionInput.getQuery());
+    PreparsedDocumentEntry cached = documents.get(key);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    misses.increment();
+    PreparsedDocumentEntry entry = parseAndValidateFunction.apply(executionInput);
+    if (!entry.hasErrors()) {
+      documents.put(key, entry);
+    }
+    return entry;
+  }
+
+  public double hitRatio() {
+    double total = hits.count() + misses.count();
+    return total == 0 ? 0 : hits.count() / total;
+  }
+}
@@ -0,0 +1,31 @@
+package io.spring.graphql.document;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** A synchronized access-ordered map that evicts its least recently used entry when full. */
+class LruCache<K, V> {
+  private final Map<K, V> entries;
+
+  LruCache(int maxEntries) {
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  synchronized V get(K key) {
+    return entries.get(key);
+  }
+
+  synchronized void put(K key, V value) {
+    entries.put(key, value);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+}
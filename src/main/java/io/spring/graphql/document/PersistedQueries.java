@@ -0,0 +1,32 @@
+package io.spring.graphql.document;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Query texts registered by clients under their SHA-256 hash, so later requests can send the hash
+ * alone. Bounded and least-recently-used; an evicted query is simply registered again by the
+ * client's fallback request.
+ */
+@Component
+public class PersistedQueries {
+  private final LruCache<String, String> queries;
+
+  public PersistedQueries(@Value("${graphql.apq.max-entries:1000}") int maxEntries) {
+    this.queries = new LruCache<>(maxEntries);
+  }
+
+  public String find(String hash) {
+    return queries.get(hash.toLowerCase());
+  }
+
+  /** Stores the query when {@code hash} is its SHA-256, and reports whether it was. */
+  public boolean register(String hash, String query) {
+    String actual = QueryHashes.sha256(query);
+    if (!actual.equalsIgnoreCase(hash)) {
+      return false;
+    }
+    queries.put(actual, query);
+    return true;
+  }
+}
@@ -0,0 +1,139 @@
+package io.spring.graphql.document;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.spring.graphql.transport.GraphQLRequestBody;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Automatic persisted queries for {@code POST /graphql}, following the Apollo protocol. A request
+ * carrying {@code extensions.persistedQuery.sha256Hash} without a query is answered from {@link
+ * PersistedQueries}, or with a {@code PERSISTED_QUERY_NOT_FOUND} error that tells the client to
+ * retry with the full text; that retry registers the query under its hash once the hash checks
+ * out. In a batch each operation is registered or expanded on its own; one whose hash is unknown
+ * is left for {@link io.spring.graphql.transport.BatchedGraphQLFilter} to answer, while a hash
+ * mismatch rejects the whole batch.
+ *
+ * <p>Runs first of the {@code /graphql} filters, after Spring Security, so the batch and
+ * incremental delivery filters only ever see full queries.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class PersistedQueryFilter extends OncePerRequestFilter {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final PersistedQueries persistedQueries;
+  private final String path;
+
+  public PersistedQueryFilter(
+      PersistedQueries persistedQueries, @Value("${dgs.graphql.path:/graphql}") String path) {
+    this.persistedQueries = persistedQueries;
+    this.path = path;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod()) || !path.equals(request.getServletPath());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    GraphQLRequestBody body = GraphQLRequestBody.of(request);
+    JsonNode root = body.json();
+    if (root != null && root.isArray()) {
+      boolean expanded = false;
+      for (JsonNode operation : root) {
+        Lookup lookup = lookup(operation);
+        if (lookup == Lookup.MISMATCH) {
+          writeMismatch(response);
+          return;
+        }
+        expanded |= lookup == Lookup.EXPANDED;
+      }
+      filterChain.doFilter(
+          expanded ? GraphQLRequestBody.replace(request, root) : body.wrap(request), response);
+      return;
+    }
+    switch (lookup(root)) {
+      case MISMATCH:
+        writeMismatch(response);
+        return;
+      case NOT_FOUND:
+        writeError(
+            response,
+            HttpServletResponse.SC_OK,
+            "PersistedQueryNotFound",
+            "PERSISTED_QUERY_NOT_FOUND");
+        return;
+      case EXPANDED:
+        filterChain.doFilter(GraphQLRequestBody.replace(request, root), response);
+        return;
+      default:
+        filterChain.doFilter(body.wrap(request), response);
+    }
+  }
+
+  /** Registers or expands the persisted query of one operation, in place. */
+  private Lookup lookup(JsonNode operation) {
+    if (operation == null || !operation.isObject()) {
+      return Lookup.NONE;
+    }
+    JsonNode hash = operation.path("extensions").path("persistedQuery").get("sha256Hash");
+    if (hash == null || !hash.isTextual()) {
+      return Lookup.NONE;
+    }
+    JsonNode query = operation.get("query");
+    if (query != null && query.isTextual() && !query.asText().isEmpty()) {
+      return persistedQueries.register(hash.asText(), query.asText())
+          ? Lookup.REGISTERED
+          : Lookup.MISMATCH;
+    }
+    String persisted = persistedQueries.find(hash.asText());
+    if (persisted == null) {
+      return Lookup.NOT_FOUND;
+    }
+    ((ObjectNode) operation).put("query", persisted);
+    return Lookup.EXPANDED;
+  }
+
+  private void writeMismatch(HttpServletResponse response) throws IOException {
+    writeError(
+        response,
+        HttpServletResponse.SC_BAD_REQUEST,
+        "provided sha does not match query",
+        "PERSISTED_QUERY_HASH_MISMATCH");
+  }
+
+  private void writeError(HttpServletResponse response, int status, String message, String code)
+      throws IOException {
+    Map<String, Object> error =
+        Map.of("message", message, "extensions", Collections.singletonMap("code", code));
+    response.setStatus(status);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        Collections.singletonMap("errors", Collections.singletonList(error)));
+  }
+
+  private enum Lookup {
+    NONE,
+    REGISTERED,
+    EXPANDED,
+    NOT_FOUND,
+    MISMATCH
+  }
+}
@@ -0,0 +1,20 @@
+package io.spring.graphql.document;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+final class QueryHashes {
+  private QueryHashes() {}
+
+  /** Lower-case hex SHA-256 of the UTF-8 query text, as Apollo clients compute it. */
+  static String sha256(String query) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
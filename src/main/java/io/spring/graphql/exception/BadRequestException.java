@@ -0,0 +1,8 @@
+package io.spring.graphql.exception;
+
+public class BadRequestException extends RuntimeException {
+
+  public BadRequestException(String message) {
+    super(message);
+  }
+}
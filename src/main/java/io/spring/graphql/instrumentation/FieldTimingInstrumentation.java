@@ -0,0 +1,223 @@
+package io.spring.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.spring.infrastructure.mybatis.StatementCountingInterceptor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Times every non-trivial field fetch and counts the SQL statements its fetcher prepared, as the
+ * {@code graphql.field.latency} timer and {@code graphql.field.statements} summary tagged with
+ * the field's {@code Type.field} coordinate.
+ *
+ * <p>Statements are those prepared on the fetching thread before the fetcher returned, including
+ * those of queries it forked, so SQL a DataLoader issues later, at dispatch, is not charged to the
+ * field that queued the load. Loaders charge their batches through {@link #recordBatch} instead,
+ * as {@code graphql.dataloader.latency} and {@code graphql.dataloader.statements} tagged with the
+ * loader name. When
+ * {@code graphql.tracing.enabled} is set, a request carrying the {@value #TRACING_HEADER} header
+ * also gets the per-path figures back under the {@code tracing} response extension.
+ */
+@Component
+public class FieldTimingInstrumentation extends SimpleInstrumentation {
+  static final String TRACING_HEADER = "X-GraphQL-Tracing";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean tracingEnabled;
+  private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> statements = new ConcurrentHashMap<>();
+  private final Map<String, Timer> batchLatencies = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> batchStatements = new ConcurrentHashMap<>();
+
+  public FieldTimingInstrumentation(
+      MeterRegistry meterRegistry, @Value("${graphql.tracing.enabled:false}") boolean enabled) {
+    this.meterRegistry = meterRegistry;
+    this.tracingEnabled = enabled;
+  }
+
+  @Override
+  public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+    return new TracingState(tracingEnabled && tracingRequested());
+  }
+
+  @Override
+  public InstrumentationContext<Object> beginFieldFetch(
+      InstrumentationFieldFetchParameters parameters) {
+    if (parameters.isTrivialDataFetcher()) {
+      return SimpleInstrumentationContext.noOp();
+    }
+    DataFetchingEnvironment env = parameters.getEnvironment();
+    String coordinate =
+        GraphQLTypeUtil.simplePrint(env.getParentType()) + "." + env.getField().getName();
+    TracingState state = parameters.getInstrumentationState();
+    long start = System.nanoTime();
+    long statementsBefore = StatementCountingInterceptor.count();
+    long[] prepared = new long[1];
+    return new InstrumentationContext<>() {
+      @Override
+      public void onDispatched(CompletableFuture<Object> result) {
+        prepared[0] = StatementCountingInterceptor.count() - statementsBefore;
+      }
+
+      @Override
+      public void onCompleted(Object result, Throwable t) {
+        long nanos = System.nanoTime() - start;
+        latencies
+            .computeIfAbsent(coordinate, field -> latencyTimer(field))
+            .record(nanos, TimeUnit.NANOSECONDS);
+        statements
+            .computeIfAbsent(coordinate, field -> statementSummary(field))
+            .record(prepared[0]);
+        if (state != null && state.tracing) {
+          state.record(pathOf(env), nanos, prepared[0]);
+        }
+      }
+    };
+  }
+
+  @Override
+  public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+      ExecutionResult executionResult, InstrumentationExecutionParameters parameters) {
+    TracingState state = parameters.getInstrumentationState();
+    if (state == null || !state.tracing) {
+      return CompletableFuture.completedFuture(executionResult);
+    }
+    Map<Object, Object> extensions = new LinkedHashMap<>();
+    if (executionResult.getExtensions() != null) {
+      extensions.putAll(executionResult.getExtensions());
+    }
+    extensions.put("tracing", state.toSpecification());
+    return CompletableFuture.completedFuture(
+        ExecutionResultImpl.newExecutionResult()
+            .from(executionResult)
+            .extensions(extensions)
+            .build());
+  }
+
+  /** Runs one batch of {@code loader}, recording its latency and the statements it prepared. */
+  public <T> T recordBatch(String loader, Supplier<T> batch) {
+    long start = System.nanoTime();
+    long statementsBefore = StatementCountingInterceptor.count();
+    try {
+      return batch.get();
+    } finally {
+      batchLatencies
+          .computeIfAbsent(loader, name -> batchLatencyTimer(name))
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      batchStatements
+          .computeIfAbsent(loader, name -> batchStatementSummary(name))
+          .record(StatementCountingInterceptor.count() - statementsBefore);
+    }
+  }
+
+  private Timer latencyTimer(String field) {
+    return Timer.builder("graphql.field.latency")
+        .description("Time spent resolving a GraphQL field")
+        .tag("field", field)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private DistributionSummary statementSummary(String field) {
+    return DistributionSummary.builder("graphql.field.statements")
+        .description("SQL statements prepared while fetching a GraphQL field")
+        .tag("field", field)
+        .register(meterRegistry);
+  }
+
+  private Timer batchLatencyTimer(String loader) {
+    return Timer.builder("graphql.dataloader.latency")
+        .description("Time spent loading one DataLoader batch")
+        .tag("loader", loader)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private DistributionSummary batchStatementSummary(String loader) {
+    return DistributionSummary.builder("graphql.dataloader.statements")
+        .description("SQL statements prepared while loading one DataLoader batch")
+        .tag("loader", loader)
+        .register(meterRegistry);
+  }
+
+  /** The result path without list indices, so every element of a list shares one entry. */
+  private static String pathOf(DataFetchingEnvironment env) {
+    StringBuilder path = new StringBuilder();
+    for (Object segment : env.getExecutionStepInfo().getPath().toList()) {
+      if (segment instanceof String) {
+        path.append('/').append(segment);
+      }
+    }
+    return path.toString();
+  }
+
+  private static boolean tracingRequested() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes
+        && ((ServletRequestAttributes) attributes).getRequest().getHeader(TRACING_HEADER) != null;
+  }
+
+  private static class TracingState implements InstrumentationState {
+    private final boolean tracing;
+    private final long startedAt = System.nanoTime();
+    private final Map<String, long[]> fields = new LinkedHashMap<>();
+
+    TracingState(boolean tracing) {
+      this.tracing = tracing;
+    }
+
+    /** Per path: invocations, total nanos, max nanos and statements. */
+    synchronized void record(String path, long nanos, long statements) {
+      long[] stats = fields.computeIfAbsent(path, p -> new long[4]);
+      stats[0]++;
+      stats[1] += nanos;
+      stats[2] = Math.max(stats[2], nanos);
+      stats[3] += statements;
+    }
+
+    synchronized Map<String, Object> toSpecification() {
+      List<Map<String, Object>> resolvers = new ArrayList<>(fields.size());
+      long totalStatements = 0;
+      for (Map.Entry<String, long[]> entry : fields.entrySet()) {
+        long[] stats = entry.getValue();
+        Map<String, Object> resolver = new LinkedHashMap<>();
+        resolver.put("path", entry.getKey());
+        resolver.put("count", stats[0]);
+        resolver.put("totalMs", stats[1] / 1e6);
+        resolver.put("maxMs", stats[2] / 1e6);
+        resolver.put("statements", stats[3]);
+        resolvers.add(resolver);
+        totalStatements += stats[3];
+      }
+      Map<String, Object> tracing = new LinkedHashMap<>();
+      tracing.put("durationMs", (System.nanoTime() - startedAt) / 1e6);
+      tracing.put("statements", totalStatements);
+      tracing.put("resolvers", resolvers);
+      return tracing;
+    }
+  }
+}
@@ -0,0 +1,258 @@
+package io.spring.graphql.instrumentation;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQLException;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.language.Document;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects queries that are too deep or too expensive before any data fetcher runs.
+ *
+ * <p>The cost of a field is its weight plus the cost of its selections, multiplied by its {@code
+ * first} or {@code last} argument, or the length of its {@code slugs} list, when it has one, so
+ * {@code articles(first: 50) { edges { node { comments(first: 20) { ... } } } }} is charged for a
+ * thousand comments. Scalar and enum fields weigh nothing, object fields one, and fields backed
+ * by their own queries more. Introspection is not counted. The computed cost is returned under the
+ * {@code cost} response extension. The operations of a batch share one maximum between them.
+ */
+@Component
+public class QueryCostInstrumentation extends SimpleInstrumentation {
+  private static final Map<String, Integer> WEIGHTS = new HashMap<>();
+
+  static {
+    WEIGHTS.put("Query.articles", 2);
+    WEIGHTS.put("Query.feed", 3);
+    WEIGHTS.put("Query.trending", 2);
+    WEIGHTS.put("Query.articlesBySlugs", 2);
+    WEIGHTS.put("Article.comments", 2);
+    WEIGHTS.put("Article.related", 3);
+  }
+
+  private final int maxDepth;
+  private final long maxCost;
+  private final DistributionSummary costs;
+  private final Counter tooDeep;
+  private final Counter tooCostly;
+
+  public QueryCostInstrumentation(
+      @Value("${graphql.query.max-depth:12}") int maxDepth,
+      @Value("${graphql.query.max-cost:10000}") long maxCost,
+      MeterRegistry meterRegistry) {
+    this.maxDepth = maxDepth;
+    this.maxCost = maxCost;
+    this.costs =
+        DistributionSummary.builder("graphql.query.cost")
+            .description("Static cost of accepted and rejected GraphQL queries")
+            .register(meterRegistry);
+    this.tooDeep = meterRegistry.counter("graphql.query.rejected", "reason", "depth");
+    this.tooCostly = meterRegistry.counter("graphql.query.rejected", "reason", "cost");
+  }
+
+  @Override
+  public InstrumentationState createState() {
+    return new CostState();
+  }
+
+  /**
+   * Checks run when the operation starts rather than during validation, so queries whose
+   * validated document comes from the document cache are measured too.
+   */
+  @Override
+  public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+      InstrumentationExecuteOperationParameters parameters) {
+    CostState state = parameters.getInstrumentationState();
+    measure(parameters.getExecutionContext(), state);
+    costs.record(state.cost);
+    if (state.depth > maxDepth) {
+      tooDeep.increment();
+      throw new AbortExecutionException(
+          "Query depth " + state.depth + " exceeds the maximum of " + maxDepth);
+    }
+    if (state.cost > maxCost) {
+      tooCostly.increment();
+      throw new AbortExecutionException(
+          "Query cost " + state.cost + " exceeds the maximum of " + maxCost);
+    }
+    return SimpleInstrumentationContext.noOp();
+  }
+
+  @Override
+  public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+      ExecutionResult executionResult, InstrumentationExecutionParameters parameters) {
+    CostState state = parameters.getInstrumentationState();
+    if (state == null || state.cost < 0) {
+      return CompletableFuture.completedFuture(executionResult);
+    }
+    Map<Object, Object> extensions = new LinkedHashMap<>();
+    if (executionResult.getExtensions() != null) {
+      extensions.putAll(executionResult.getExtensions());
+    }
+    Map<String, Object> cost = new LinkedHashMap<>();
+    cost.put("requested", state.cost);
+    cost.put("maximum", maxCost);
+    cost.put("depth", state.depth);
+    extensions.put("cost", cost);
+    return CompletableFuture.completedFuture(
+        ExecutionResultImpl.newExecutionResult()
+            .from(executionResult)
+            .extensions(extensions)
+            .build());
+  }
+
+  /**
+   * Rejects a batch whose operations together cost more than one query may. Each operation is
+   * still checked on its own as it executes; this keeps a batch from spending the budget once per
+   * operation. An operation that cannot be parsed or resolved counts for nothing here and fails
+   * when it executes.
+   */
+  public void checkBatch(
+      GraphQLSchema schema, List<Document> documents, List<ExecutionInput> operations) {
+    long cost = 0;
+    for (int i = 0; i < operations.size(); i++) {
+      Document document = documents.get(i);
+      ExecutionInput operation = operations.get(i);
+      if (document == null) {
+        continue;
+      }
+      try {
+        CostState state = new CostState();
+        measure(
+            schema, document, operation.getOperationName(), operation.getVariables(), state);
+        cost = add(cost, state.cost);
+      } catch (GraphQLException e) {
+        // left to the execution of the operation to report
+      }
+    }
+    if (cost > maxCost) {
+      tooCostly.increment();
+      throw new AbortExecutionException(
+          "Batch cost " + cost + " exceeds the maximum of " + maxCost);
+    }
+  }
+
+  private void measure(ExecutionContext executionContext, CostState state) {
+    measure(
+        executionContext.getGraphQLSchema(),
+        executionContext.getDocument(),
+        executionContext.getExecutionInput().getOperationName(),
+        executionContext.getVariables(),
+        state);
+  }
+
+  private void measure(
+      GraphQLSchema schema,
+      Document document,
+      String operationName,
+      Map<String, Object> variables,
+      CostState state) {
+    Map<QueryVisitorFieldEnvironment, Long> childCosts = new HashMap<>();
+    long[] total = new long[1];
+    QueryTraverser.newQueryTraverser()
+        .schema(schema)
+        .document(document)
+        .operationName(operationName)
+        .variables(variables)
+        .build()
+        .visitPostOrder(
+            new QueryVisitorStub() {
+              @Override
+              public void visitField(QueryVisitorFieldEnvironment env) {
+                int depth = depthOf(env);
+                if (depth < 0) {
+                  return;
+                }
+                state.depth = Math.max(state.depth, depth);
+                long own =
+                    multiply(
+                        weightOf(env) + childCosts.getOrDefault(env, 0L), multiplierOf(env));
+                QueryVisitorFieldEnvironment parent = env.getParentEnvironment();
+                if (parent == null) {
+                  total[0] = add(total[0], own);
+                } else {
+                  childCosts.merge(parent, own, QueryCostInstrumentation::add);
+                }
+              }
+            });
+    state.cost = total[0];
+  }
+
+  /** Nesting level of the field, or -1 inside introspection. */
+  private static int depthOf(QueryVisitorFieldEnvironment env) {
+    int depth = 0;
+    for (QueryVisitorFieldEnvironment e = env; e != null; e = e.getParentEnvironment()) {
+      if (e.getField().getName().startsWith("__")) {
+        return -1;
+      }
+      depth++;
+    }
+    return depth;
+  }
+
+  private static long weightOf(QueryVisitorFieldEnvironment env) {
+    Integer weight =
+        WEIGHTS.get(env.getFieldsContainer().getName() + "." + env.getField().getName());
+    if (weight != null) {
+      return weight;
+    }
+    GraphQLType type = GraphQLTypeUtil.unwrapAll(env.getFieldDefinition().getType());
+    return type instanceof GraphQLScalarType || type instanceof GraphQLEnumType ? 0 : 1;
+  }
+
+  private static long multiplierOf(QueryVisitorFieldEnvironment env) {
+    Object first = env.getArguments().get("first");
+    Object last = env.getArguments().get("last");
+    long multiplier = 1;
+    for (Object count : new Object[] {first, last}) {
+      if (count instanceof Number) {
+        multiplier = Math.max(multiplier, ((Number) count).longValue());
+      }
+    }
+    Object slugs = env.getArguments().get("slugs");
+    if (slugs instanceof Collection) {
+      multiplier = Math.max(multiplier, ((Collection<?>) slugs).size());
+    }
+    return multiplier;
+  }
+
+  private static long add(long a, long b) {
+    long sum = a + b;
+    return sum < 0 ? Long.MAX_VALUE : sum;
+  }
+
+  private static long multiply(long a, long b) {
+    return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+  }
+
+  private static class CostState implements InstrumentationState {
+    private long cost = -1;
+    private int depth = 0;
+  }
+}
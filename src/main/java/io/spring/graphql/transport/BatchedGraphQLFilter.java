@@ -0,0 +1,131 @@
+package io.spring.graphql.transport;
+
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphqlErrorBuilder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Accepts a JSON array of operations on {@code POST /graphql} and answers with the array of their
+ * results, in order, through {@link GraphQLBatchExecutor}. The request passes the security chain
+ * once, so every operation sees the same principal. Single operations go on to DGS untouched.
+ * An operation that still carries only a persisted query hash gets {@code PersistedQueryNotFound}
+ * in its place among the results and is not executed.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class BatchedGraphQLFilter extends OncePerRequestFilter {
+  private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+  private static final ExecutionResult PERSISTED_QUERY_NOT_FOUND =
+      ExecutionResultImpl.newExecutionResult()
+          .addError(
+              GraphqlErrorBuilder.newError()
+                  .message("PersistedQueryNotFound")
+                  .extensions(Collections.singletonMap("code", "PERSISTED_QUERY_NOT_FOUND"))
+                  .build())
+          .build();
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final GraphQLBatchExecutor batchExecutor;
+  private final String path;
+  private final int maxOperations;
+
+  public BatchedGraphQLFilter(
+      GraphQLBatchExecutor batchExecutor,
+      @Value("${dgs.graphql.path:/graphql}") String path,
+      @Value("${graphql.batch.max-operations:20}") int maxOperations) {
+    this.batchExecutor = batchExecutor;
+    this.path = path;
+    this.maxOperations = maxOperations;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod()) || !path.equals(request.getServletPath());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    GraphQLRequestBody body = GraphQLRequestBody.of(request);
+    if (!body.isArray()) {
+      filterChain.doFilter(body.wrap(request), response);
+      return;
+    }
+    JsonNode operations = body.json();
+    if (operations == null) {
+      response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Malformed batch");
+      return;
+    }
+    if (operations.size() == 0 || operations.size() > maxOperations) {
+      response.sendError(
+          HttpServletResponse.SC_BAD_REQUEST,
+          "A batch holds between 1 and " + maxOperations + " operations");
+      return;
+    }
+    ExecutionResult[] results = new ExecutionResult[operations.size()];
+    List<Integer> positions = new ArrayList<>(operations.size());
+    List<ExecutionInput.Builder> inputs = new ArrayList<>(operations.size());
+    for (int i = 0; i < operations.size(); i++) {
+      JsonNode operation = operations.get(i);
+      if (isUnknownPersistedQuery(operation)) {
+        results[i] = PERSISTED_QUERY_NOT_FOUND;
+        continue;
+      }
+      JsonNode operationName = operation.get("operationName");
+      positions.add(i);
+      inputs.add(
+          ExecutionInput.newExecutionInput()
+              .query(operation.path("query").asText(""))
+              .operationName(
+                  operationName == null || operationName.isNull() ? null : operationName.asText())
+              .variables(toMap(operation.get("variables")))
+              .extensions(toMap(operation.get("extensions"))));
+    }
+    if (!inputs.isEmpty()) {
+      List<ExecutionResult> executed = batchExecutor.execute(inputs);
+      for (int i = 0; i < positions.size(); i++) {
+        results[positions.get(i)] = executed.get(i);
+      }
+    }
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        Arrays.stream(results).map(ExecutionResult::toSpecification).collect(toList()));
+  }
+
+  /** A hash-only operation that {@code PersistedQueryFilter} could not expand. */
+  private static boolean isUnknownPersistedQuery(JsonNode operation) {
+    return operation.path("query").asText("").isEmpty()
+        && operation.path("extensions").path("persistedQuery").has("sha256Hash");
+  }
+
+  private Map<String, Object> toMap(JsonNode node) {
+    if (node == null || !node.isObject()) {
+      return Collections.emptyMap();
+    }
+    return objectMapper.convertValue(node, MAP);
+  }
+}
@@ -0,0 +1,186 @@
+package io.spring.graphql.transport;
+
+import static java.util.stream.Collectors.toList;
+
+import com.netflix.graphql.dgs.context.DgsContext;
+import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider;
+import graphql.Directives;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.AsyncExecutionStrategy;
+import graphql.execution.AsyncSerialExecutionStrategy;
+import graphql.execution.DataFetcherExceptionHandler;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.language.OperationDefinition.Operation;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.spring.graphql.document.DocumentCache;
+import io.spring.graphql.instrumentation.QueryCostInstrumentation;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.dataloader.DataLoaderRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes the operations of a batched request against one DataLoader registry and one context,
+ * so loads issued by different operations share a cache and are dispatched together. Queries run
+ * side by side on a small pool that carries the caller's security context; a batch containing a
+ * mutation runs in order on the calling thread instead.
+ *
+ * <p>DGS builds a fresh registry for every execution and cannot deliver deferred fields, so
+ * batched and incremental requests use their own {@link GraphQL} over the same schema, plus the
+ * {@code @defer} directive, and the same instrumentations and exception handler. Documents that
+ * use {@code @defer} are only valid against that schema, so it keeps a {@link DocumentCache} of its
+ * own rather than sharing the one DGS validates {@code /graphql} requests with.
+ */
+@Component
+public class GraphQLBatchExecutor implements DisposableBean {
+  private final GraphQL graphQL;
+  private final QueryCostInstrumentation queryCost;
+  private final Supplier<Scope> scopes;
+  private final ThreadPoolExecutor executor;
+
+  @Autowired
+  public GraphQLBatchExecutor(
+      GraphQLSchema schema,
+      List<Instrumentation> instrumentations,
+      @Value("${graphql.document-cache.max-entries:500}") int documentCacheEntries,
+      MeterRegistry meterRegistry,
+      DataFetcherExceptionHandler exceptionHandler,
+      DgsDataLoaderProvider dataLoaderProvider,
+      QueryCostInstrumentation queryCost,
+      @Value("${graphql.batch.threads:4}") int threads) {
+    this(
+        GraphQL.newGraphQL(withDefer(schema))
+            .instrumentation(new ChainedInstrumentation(instrumentations))
+            .preparsedDocumentProvider(
+                new DocumentCache("defer", documentCacheEntries, meterRegistry))
+            .queryExecutionStrategy(new AsyncExecutionStrategy(exceptionHandler))
+            .mutationExecutionStrategy(new AsyncSerialExecutionStrategy(exceptionHandler))
+            .build(),
+        queryCost,
+        () -> {
+          DgsContext context = new DgsContext(null, null);
+          return new Scope(
+              dataLoaderProvider.buildRegistryWithContextSupplier(() -> context), context);
+        },
+        threads);
+  }
+
+  GraphQLBatchExecutor(
+      GraphQL graphQL, QueryCostInstrumentation queryCost, Supplier<Scope> scopes, int threads) {
+    this.graphQL = graphQL;
+    this.queryCost = queryCost;
+    this.scopes = scopes;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(64),
+            new CustomizableThreadFactory("graphql-batch-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Executes one operation. When it defers fields, the result carries their {@code
+   * Publisher<DeferredExecutionResult>} under the {@link GraphQL#DEFERRED_RESULTS} extension.
+   */
+  public ExecutionResult execute(ExecutionInput.Builder operation) {
+    return graphQL.execute(bind(operation, scopes.get()));
+  }
+
+  /**
+   * Results in the order of {@code operations}. A batch that costs more than one query may, all
+   * operations together, is not executed; every operation is answered with the rejection instead.
+   */
+  public List<ExecutionResult> execute(List<ExecutionInput.Builder> operations) {
+    Scope scope = scopes.get();
+    List<ExecutionInput> inputs =
+        operations.stream().map(operation -> bind(operation, scope)).collect(toList());
+    if (inputs.size() == 1) {
+      return Collections.singletonList(graphQL.execute(inputs.get(0)));
+    }
+    List<Document> documents =
+        inputs.stream().map(input -> parse(input.getQuery())).collect(toList());
+    try {
+      queryCost.checkBatch(graphQL.getGraphQLSchema(), documents, inputs);
+    } catch (AbortExecutionException e) {
+      return inputs.stream().map(input -> new ExecutionResultImpl(e)).collect(toList());
+    }
+    if (documents.stream().anyMatch(GraphQLBatchExecutor::isMutation)) {
+      return inputs.stream().map(graphQL::execute).collect(toList());
+    }
+    Executor secured =
+        new DelegatingSecurityContextExecutor(executor, SecurityContextHolder.getContext());
+    List<CompletableFuture<ExecutionResult>> results =
+        inputs.stream()
+            .map(input -> CompletableFuture.supplyAsync(() -> graphQL.execute(input), secured))
+            .collect(toList());
+    return results.stream().map(CompletableFuture::join).collect(toList());
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  static GraphQLSchema withDefer(GraphQLSchema schema) {
+    if (schema.getDirective(Directives.DeferDirective.getName()) != null) {
+      return schema;
+    }
+    return schema.transform(builder -> builder.additionalDirective(Directives.DeferDirective));
+  }
+
+  private static ExecutionInput bind(ExecutionInput.Builder operation, Scope scope) {
+    return operation.dataLoaderRegistry(scope.registry).context(scope.context).build();
+  }
+
+  /** The parsed query, or {@code null} when it is not valid syntax. */
+  private static Document parse(String query) {
+    try {
+      return new Parser().parseDocument(query);
+    } catch (InvalidSyntaxException e) {
+      return null;
+    }
+  }
+
+  private static boolean isMutation(Document document) {
+    return document != null
+        && document.getDefinitionsOfType(OperationDefinition.class).stream()
+            .anyMatch(operation -> operation.getOperation() == Operation.MUTATION);
+  }
+
+  /** What the operations of one batch share. */
+  static class Scope {
+    private final DataLoaderRegistry registry;
+    private final Object context;
+
+    Scope(DataLoaderRegistry registry, Object context) {
+      this.registry = registry;
+      this.context = context;
+    }
+  }
+}
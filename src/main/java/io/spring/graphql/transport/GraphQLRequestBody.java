@@ -0,0 +1,72 @@
+package io.spring.graphql.transport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.util.StreamUtils;
+
+/**
+ * The body of a {@code POST /graphql} request, read and parsed once and kept in a request
+ * attribute, so the filters in front of DGS share one copy instead of each parsing it again.
+ */
+public final class GraphQLRequestBody {
+  private static final String ATTRIBUTE = GraphQLRequestBody.class.getName();
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final byte[] bytes;
+  private final JsonNode json;
+
+  private GraphQLRequestBody(byte[] bytes, JsonNode json) {
+    this.bytes = bytes;
+    this.json = json;
+  }
+
+  /** The body of {@code request}, read and parsed on first use. */
+  public static GraphQLRequestBody of(HttpServletRequest request) throws IOException {
+    Object cached = request.getAttribute(ATTRIBUTE);
+    if (cached instanceof GraphQLRequestBody) {
+      return (GraphQLRequestBody) cached;
+    }
+    byte[] bytes = StreamUtils.copyToByteArray(request.getInputStream());
+    JsonNode json;
+    try {
+      json = OBJECT_MAPPER.readTree(bytes);
+    } catch (IOException e) {
+      json = null;
+    }
+    GraphQLRequestBody body =
+        new GraphQLRequestBody(bytes, json == null || json.isMissingNode() ? null : json);
+    request.setAttribute(ATTRIBUTE, body);
+    return body;
+  }
+
+  /** Replaces the body of {@code request} with {@code json} for the rest of the chain. */
+  public static HttpServletRequest replace(HttpServletRequest request, JsonNode json)
+      throws IOException {
+    GraphQLRequestBody body =
+        new GraphQLRequestBody(OBJECT_MAPPER.writeValueAsBytes(json), json);
+    request.setAttribute(ATTRIBUTE, body);
+    return body.wrap(request);
+  }
+
+  /** The parsed body, or {@code null} when it is not JSON. */
+  public JsonNode json() {
+    return json;
+  }
+
+  /** Whether the body is a JSON array, even a malformed one. */
+  public boolean isArray() {
+    for (byte b : bytes) {
+      if (!Character.isWhitespace(b)) {
+        return b == '[';
+      }
+    }
+    return false;
+  }
+
+  /** {@code request} with this body, for the next filter to read again. */
+  public HttpServletRequest wrap(HttpServletRequest request) {
+    return new CachedBodyRequest(request, bytes);
+  }
+}
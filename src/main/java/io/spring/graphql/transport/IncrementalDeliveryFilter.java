@@ -0,0 +1,132 @@
+package io.spring.graphql.transport;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.execution.defer.DeferredExecutionResult;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Incremental delivery for {@code POST /graphql} operations that use {@code @defer} and accept
+ * {@code multipart/mixed}. The response opens with everything that was not deferred, flushed at
+ * once, and each deferred field follows in its own part with its {@code path} as it resolves. A
+ * last part carrying only {@code "hasNext": false} closes the stream.
+ *
+ * <p>graphql-java 17 only supports {@code @defer} on fields, so {@code @stream} is not offered;
+ * deferring {@code edges} delivers a whole page of a connection late instead of item by item.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class IncrementalDeliveryFilter extends OncePerRequestFilter {
+  private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+  private static final String MULTIPART_MIXED = "multipart/mixed";
+  private static final byte[] PART_HEADER =
+      "\r\n---\r\nContent-Type: application/json; charset=utf-8\r\n\r\n"
+          .getBytes(StandardCharsets.UTF_8);
+  private static final byte[] END = "\r\n-----\r\n".getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final GraphQLBatchExecutor executor;
+  private final String path;
+
+  public IncrementalDeliveryFilter(
+      GraphQLBatchExecutor executor, @Value("${dgs.graphql.path:/graphql}") String path) {
+    this.executor = executor;
+    this.path = path;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    return !"POST".equals(request.getMethod())
+        || !path.equals(request.getServletPath())
+        || accept == null
+        || !accept.contains(MULTIPART_MIXED);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    GraphQLRequestBody body = GraphQLRequestBody.of(request);
+    JsonNode operation = body.json();
+    if (operation == null
+        || !operation.isObject()
+        || !operation.path("query").asText("").contains("@defer")) {
+      filterChain.doFilter(body.wrap(request), response);
+      return;
+    }
+    JsonNode operationName = operation.get("operationName");
+    ExecutionResult result =
+        executor.execute(
+            ExecutionInput.newExecutionInput()
+                .query(operation.get("query").asText())
+                .operationName(
+                    operationName == null || operationName.isNull() ? null : operationName.asText())
+                .variables(toMap(operation.get("variables")))
+                .extensions(toMap(operation.get("extensions"))));
+
+    Map<Object, Object> extensions = new LinkedHashMap<>();
+    if (result.getExtensions() != null) {
+      extensions.putAll(result.getExtensions());
+    }
+    @SuppressWarnings("unchecked")
+    Publisher<DeferredExecutionResult> deferred =
+        (Publisher<DeferredExecutionResult>) extensions.remove(GraphQL.DEFERRED_RESULTS);
+    ExecutionResult initial =
+        ExecutionResultImpl.newExecutionResult()
+            .from(result)
+            .extensions(extensions.isEmpty() ? null : extensions)
+            .build();
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MULTIPART_MIXED + "; boundary=\"-\"");
+    OutputStream out = response.getOutputStream();
+    writePart(out, initial.toSpecification(), deferred != null);
+    if (deferred != null) {
+      for (DeferredExecutionResult part : Flux.from(deferred).toIterable()) {
+        writePart(out, part.toSpecification(), true);
+      }
+      writePart(out, new LinkedHashMap<>(), false);
+    }
+    out.write(END);
+    out.flush();
+  }
+
+  private void writePart(OutputStream out, Map<String, Object> payload, boolean hasNext)
+      throws IOException {
+    Map<String, Object> part = new LinkedHashMap<>(payload);
+    part.put("hasNext", hasNext);
+    out.write(PART_HEADER);
+    out.write(objectMapper.writeValueAsBytes(part));
+    out.flush();
+  }
+
+  private Map<String, Object> toMap(JsonNode node) {
+    if (node == null || !node.isObject()) {
+      return Collections.emptyMap();
+    }
+    return objectMapper.convertValue(node, MAP);
+  }
+}
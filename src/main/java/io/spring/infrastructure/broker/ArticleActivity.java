@@ -0,0 +1,63 @@
+package io.spring.infrastructure.broker;
+
+import io.spring.application.data.CommentData;
+import io.spring.core.event.ArticleFavoritedEvent;
+import io.spring.core.event.ArticleUnfavoritedEvent;
+import io.spring.core.event.CommentAddedEvent;
+import io.spring.infrastructure.memory.FavoriteCounters;
+import io.spring.infrastructure.mybatis.readservice.CommentReadService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+
+/**
+ * Relays committed comment and favorite events to {@link EventBroker} subscribers of the article
+ * they concern. Nothing is read from the database for an article nobody is watching.
+ */
+@Component
+@AllArgsConstructor
+public class ArticleActivity {
+  private static final String COMMENTS = "comments:";
+  private static final String FAVORITES = "favorites:";
+
+  private EventBroker eventBroker;
+  private CommentReadService commentReadService;
+  private FavoriteCounters favoriteCounters;
+
+  public Flux<CommentData> commentsAdded(String articleId) {
+    return eventBroker.subscribe(COMMENTS + articleId).cast(CommentData.class);
+  }
+
+  public Flux<Integer> favoritesCounts(String articleId) {
+    return eventBroker.subscribe(FAVORITES + articleId).cast(Integer.class);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCommentAdded(CommentAddedEvent event) {
+    String topic = COMMENTS + event.getArticleId();
+    if (eventBroker.hasSubscribers(topic)) {
+      CommentData comment = commentReadService.findById(event.getCommentId());
+      if (comment != null) {
+        eventBroker.publish(topic, comment);
+      }
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onFavorited(ArticleFavoritedEvent event) {
+    publishFavoritesCount(event.getArticleId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUnfavorited(ArticleUnfavoritedEvent event) {
+    publishFavoritesCount(event.getArticleId());
+  }
+
+  private void publishFavoritesCount(String articleId) {
+    String topic = FAVORITES + articleId;
+    if (eventBroker.hasSubscribers(topic)) {
+      eventBroker.publish(topic, favoriteCounters.count(articleId));
+    }
+  }
+}
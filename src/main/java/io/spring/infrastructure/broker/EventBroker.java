@@ -0,0 +1,100 @@
+package io.spring.infrastructure.broker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * In-process publish/subscribe by topic. Publishing never blocks: every subscriber owns a bounded
+ * buffer that drops its oldest event when the subscriber falls behind, and events are delivered
+ * on a separate scheduler so a slow socket cannot stall the publishing thread.
+ */
+@Component
+public class EventBroker {
+  private final Map<String, Set<FluxSink<Object>>> topics = new ConcurrentHashMap<>();
+  private final int bufferSize;
+  private final Scheduler scheduler;
+  private final Counter dropped;
+
+  public EventBroker(
+      @Value("${broker.subscriber-buffer:64}") int bufferSize, MeterRegistry meterRegistry) {
+    this.bufferSize = bufferSize;
+    this.scheduler = Schedulers.boundedElastic();
+    this.dropped = meterRegistry.counter("broker.events.dropped");
+  }
+
+  public boolean hasSubscribers(String topic) {
+    return topics.containsKey(topic);
+  }
+
+  public void publish(String topic, Object event) {
+    Set<FluxSink<Object>> sinks = topics.get(topic);
+    if (sinks != null) {
+      for (FluxSink<Object> sink : sinks) {
+        sink.next(event);
+      }
+    }
+  }
+
+  public Flux<Object> subscribe(String topic) {
+    return buffered(Flux.create(sink -> register(topic, sink), FluxSink.OverflowStrategy.IGNORE));
+  }
+
+  /**
+   * Subscribes and emits {@code backlog} ahead of any live event. Registration and the backlog
+   * both happen while holding {@code monitor}, so a publisher that holds it too can never slip an
+   * event in between, or deliver one the backlog already contains. Only the newest buffer-full of
+   * the backlog is kept.
+   */
+  public Flux<Object> subscribe(String topic, Object monitor, Supplier<List<?>> backlog) {
+    return buffered(
+        Flux.create(
+            sink -> {
+              synchronized (monitor) {
+                register(topic, sink);
+                List<?> events = backlog.get();
+                int from = Math.max(0, events.size() - bufferSize);
+                for (Object event : events.subList(from, events.size())) {
+                  sink.next(event);
+                }
+              }
+            },
+            FluxSink.OverflowStrategy.IGNORE));
+  }
+
+  private Flux<Object> buffered(Flux<Object> events) {
+    return events
+        .onBackpressureBuffer(
+            bufferSize, event -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+        .publishOn(scheduler, 1);
+  }
+
+  private void register(String topic, FluxSink<Object> sink) {
+    topics.compute(
+        topic,
+        (key, sinks) -> {
+          Set<FluxSink<Object>> result = sinks == null ? ConcurrentHashMap.newKeySet() : sinks;
+          result.add(sink);
+          return result;
+        });
+    sink.onDispose(
+        () ->
+            topics.computeIfPresent(
+                topic,
+                (key, sinks) -> {
+                  sinks.remove(sink);
+                  return sinks.isEmpty() ? null : sinks;
+                }));
+  }
+}
@@ -0,0 +1,96 @@
+package io.spring.infrastructure.broker;
+
+import io.spring.application.ArticleFields;
+import io.spring.application.data.ArticleData;
+import io.spring.core.event.ArticleCreatedEvent;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+
+/**
+ * Pushes committed articles to the {@link EventBroker} feed topic of every follower of their
+ * author, as found in {@link FollowGraph}. Each article gets the next event id and is also kept in
+ * a bounded ring, so a reconnecting client can resume from the last id it saw.
+ */
+@Component
+public class FeedActivity {
+  private static final String FEED = "feed:";
+  private static final ArticleFields SUMMARY = new ArticleFields(false, true, true, false, false);
+
+  private final EventBroker eventBroker;
+  private final FollowGraph followGraph;
+  private final ArticleReadService articleReadService;
+  private final FeedEvent[] replay;
+  private long sequence = 0;
+
+  public FeedActivity(
+      EventBroker eventBroker,
+      FollowGraph followGraph,
+      ArticleReadService articleReadService,
+      @Value("${feed.stream.replay-size:1024}") int replaySize) {
+    this.eventBroker = eventBroker;
+    this.followGraph = followGraph;
+    this.articleReadService = articleReadService;
+    this.replay = new FeedEvent[replaySize];
+  }
+
+  /**
+   * New articles of the authors {@code userId} follows, preceded by those created after {@code
+   * lastEventId} that are still in the ring. An id newer than any issued by this process comes
+   * from before a restart and replays the whole ring.
+   */
+  public Flux<FeedEvent> articlesCreated(String userId, Long lastEventId) {
+    return eventBroker
+        .subscribe(
+            FEED + userId,
+            replay,
+            () -> lastEventId == null ? Collections.emptyList() : missed(userId, lastEventId))
+        .cast(FeedEvent.class);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onArticleCreated(ArticleCreatedEvent event) {
+    List<String> followers = followGraph.followersOf(event.getUserId());
+    if (followers.isEmpty()) {
+      return;
+    }
+    ArticleData article = articleReadService.findById(event.getArticleId(), SUMMARY);
+    if (article == null) {
+      return;
+    }
+    article.getProfileData().setFollowing(true);
+    synchronized (replay) {
+      FeedEvent feedEvent = new FeedEvent(++sequence, article);
+      replay[(int) (sequence % replay.length)] = feedEvent;
+      for (String follower : followers) {
+        String topic = FEED + follower;
+        if (eventBroker.hasSubscribers(topic)) {
+          eventBroker.publish(topic, feedEvent);
+        }
+      }
+    }
+  }
+
+  private List<FeedEvent> missed(String userId, long lastEventId) {
+    long from = lastEventId > sequence ? 1 : lastEventId + 1;
+    Set<String> following = new HashSet<>(followGraph.followingOf(userId));
+    List<FeedEvent> result = new ArrayList<>();
+    for (long id = Math.max(from, sequence - replay.length + 1); id <= sequence; id++) {
+      FeedEvent feedEvent = replay[(int) (id % replay.length)];
+      if (following.contains(feedEvent.article().getProfileData().getId())) {
+        result.add(feedEvent);
+      }
+    }
+    return result;
+  }
+
+  public record FeedEvent(long id, ArticleData article) {}
+}
@@ -0,0 +1,359 @@
+package io.spring.infrastructure.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory answer to the article listing filters: one {@link CompressedBitmap} per tag, per
+ * author and per favoriting user, over slots handed out in {@code created_at} order. A listing is
+ * the intersection of the bitmaps it filters on, walked from the newest slot down, and its total
+ * is the cardinality of that intersection.
+ *
+ * <p>Deleted articles only leave the live bitmap. Their slots are reclaimed, and every bitmap is
+ * renumbered, when an article arrives out of {@code created_at} order. The index stays empty and
+ * ignores writes until {@link #bulkLoad()} finishes, so callers fall back to SQL until then.
+ */
+@Component
+public class ArticleFilterIndex {
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Integer> slots = new HashMap<>();
+  private final Map<String, CompressedBitmap> byTag = new HashMap<>();
+  private final Map<String, CompressedBitmap> byAuthor = new HashMap<>();
+  private final Map<String, CompressedBitmap> byFavoriter = new HashMap<>();
+  private CompressedBitmap live = new CompressedBitmap();
+  private String[] ids = new String[64];
+  private long[] createdAt = new long[64];
+  private int size = 0;
+  private volatile boolean ready = false;
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void add(
+      String articleId, String authorId, long createdAtMillis, Collection<String> tags) {
+    if (!ready) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      addArticle(articleId, authorId, createdAtMillis);
+      for (String tag : tags) {
+        addTag(articleId, tag);
+      }
+      if (size > 1 && createdAt[size - 1] < createdAt[size - 2]) {
+        renumber();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(String articleId) {
+    setLive(articleId, false);
+  }
+
+  /** Undoes {@link #remove} for an article whose deletion was rolled back. */
+  public void restore(String articleId) {
+    setLive(articleId, true);
+  }
+
+  public void favorite(String articleId, String userId) {
+    setFavorite(articleId, userId, true);
+  }
+
+  public void unfavorite(String articleId, String userId) {
+    setFavorite(articleId, userId, false);
+  }
+
+  public int count(Filter filter) {
+    lock.readLock().lock();
+    try {
+      return select(filter).cardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Ids of the matching articles, newest first, skipping the first {@code offset}. */
+  public List<String> find(Filter filter, int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      CompressedBitmap matches = select(filter);
+      List<String> result = new ArrayList<>(Math.min(limit, 64));
+      int slot = matches.floor(size - 1);
+      for (int skipped = 0; slot >= 0 && skipped < offset; skipped++) {
+        slot = matches.floor(slot - 1);
+      }
+      while (slot >= 0 && result.size() < limit) {
+        result.add(ids[slot]);
+        slot = matches.floor(slot - 1);
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Ids of the matching articles created strictly before {@code cursor}, newest first, or strictly
+   * after it, oldest first, mirroring the keyset pagination of the SQL listing.
+   */
+  public List<String> findWithCursor(Filter filter, Long cursor, boolean next, int limit) {
+    lock.readLock().lock();
+    try {
+      CompressedBitmap matches = select(filter);
+      List<String> result = new ArrayList<>(Math.min(limit, 64));
+      if (next) {
+        int slot = matches.floor(cursor == null ? size - 1 : firstSlotAfter(cursor - 1) - 1);
+        while (slot >= 0 && result.size() < limit) {
+          result.add(ids[slot]);
+          slot = matches.floor(slot - 1);
+        }
+      } else {
+        int slot = matches.ceiling(cursor == null ? 0 : firstSlotAfter(cursor));
+        while (slot >= 0 && result.size() < limit) {
+          result.add(ids[slot]);
+          slot = matches.ceiling(slot + 1);
+        }
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Rough retained size of the bitmaps, excluding the id strings. */
+  public long bitmapBytes() {
+    lock.readLock().lock();
+    try {
+      long bytes = live.sizeInBytes();
+      for (Map<String, CompressedBitmap> bitmaps : Arrays.asList(byTag, byAuthor, byFavoriter)) {
+        for (CompressedBitmap bitmap : bitmaps.values()) {
+          bytes += bitmap.sizeInBytes();
+        }
+      }
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Fills the index from the database and makes it ready; rows may arrive in any order. */
+  public BulkLoad bulkLoad() {
+    return new BulkLoad();
+  }
+
+  private CompressedBitmap select(Filter filter) {
+    List<CompressedBitmap> filters = new ArrayList<>(3);
+    if (!collect(byTag, filter.getTag(), filters)
+        || !collect(byAuthor, filter.getAuthorId(), filters)
+        || !collect(byFavoriter, filter.getFavoritedById(), filters)) {
+      return new CompressedBitmap();
+    }
+    filters.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+    CompressedBitmap result = live;
+    for (CompressedBitmap bitmap : filters) {
+      result = bitmap.and(result);
+    }
+    return result;
+  }
+
+  private static boolean collect(
+      Map<String, CompressedBitmap> bitmaps, String key, List<CompressedBitmap> filters) {
+    if (key == null) {
+      return true;
+    }
+    CompressedBitmap bitmap = bitmaps.get(key);
+    if (bitmap == null) {
+      return false;
+    }
+    filters.add(bitmap);
+    return true;
+  }
+
+  private int firstSlotAfter(long millis) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (createdAt[middle] <= millis) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private void addArticle(String articleId, String authorId, long createdAtMillis) {
+    if (slots.containsKey(articleId)) {
+      return;
+    }
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size * 2);
+      createdAt = Arrays.copyOf(createdAt, size * 2);
+    }
+    int slot = size++;
+    ids[slot] = articleId;
+    createdAt[slot] = createdAtMillis;
+    slots.put(articleId, slot);
+    live.add(slot);
+    byAuthor.computeIfAbsent(authorId, k -> new CompressedBitmap()).add(slot);
+  }
+
+  private void addTag(String articleId, String tag) {
+    Integer slot = slots.get(articleId);
+    if (slot != null) {
+      byTag.computeIfAbsent(tag, k -> new CompressedBitmap()).add(slot);
+    }
+  }
+
+  private void addFavorite(String articleId, String userId) {
+    Integer slot = slots.get(articleId);
+    if (slot != null) {
+      byFavoriter.computeIfAbsent(userId, k -> new CompressedBitmap()).add(slot);
+    }
+  }
+
+  private void setLive(String articleId, boolean alive) {
+    if (!ready) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      Integer slot = slots.get(articleId);
+      if (slot != null) {
+        if (alive) {
+          live.add(slot);
+        } else {
+          live.remove(slot);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void setFavorite(String articleId, String userId, boolean favorited) {
+    if (!ready) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (favorited) {
+        addFavorite(articleId, userId);
+        return;
+      }
+      Integer slot = slots.get(articleId);
+      CompressedBitmap bitmap = byFavoriter.get(userId);
+      if (slot != null && bitmap != null && bitmap.remove(slot) && bitmap.cardinality() == 0) {
+        byFavoriter.remove(userId);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Re-sorts the live slots by {@code created_at} and rewrites every bitmap to match. */
+  private void renumber() {
+    int[] order = live.toArray();
+    Integer[] boxed = new Integer[order.length];
+    for (int i = 0; i < order.length; i++) {
+      boxed[i] = order[i];
+    }
+    Arrays.sort(boxed, Comparator.comparingLong((Integer slot) -> createdAt[slot]));
+    int[] renumbered = new int[size];
+    Arrays.fill(renumbered, -1);
+    String[] newIds = new String[Math.max(64, boxed.length * 2)];
+    long[] newCreatedAt = new long[newIds.length];
+    slots.clear();
+    for (int i = 0; i < boxed.length; i++) {
+      int slot = boxed[i];
+      renumbered[slot] = i;
+      newIds[i] = ids[slot];
+      newCreatedAt[i] = createdAt[slot];
+      slots.put(ids[slot], i);
+    }
+    for (Map<String, CompressedBitmap> bitmaps : Arrays.asList(byTag, byAuthor, byFavoriter)) {
+      bitmaps.replaceAll((key, bitmap) -> renumber(bitmap, renumbered));
+      bitmaps.values().removeIf(bitmap -> bitmap.cardinality() == 0);
+    }
+    live = renumber(live, renumbered);
+    ids = newIds;
+    createdAt = newCreatedAt;
+    size = boxed.length;
+  }
+
+  private static CompressedBitmap renumber(CompressedBitmap bitmap, int[] renumbered) {
+    int[] values = bitmap.toArray();
+    int n = 0;
+    for (int value : values) {
+      if (renumbered[value] >= 0) {
+        values[n++] = renumbered[value];
+      }
+    }
+    Arrays.sort(values, 0, n);
+    return CompressedBitmap.of(values, n);
+  }
+
+  @Value
+  public static class Filter {
+    private String tag;
+    private String authorId;
+    private String favoritedById;
+  }
+
+  public class BulkLoad {
+    private boolean ordered = true;
+
+    public void article(String articleId, String authorId, long createdAtMillis) {
+      lock.writeLock().lock();
+      try {
+        ordered &= size == 0 || createdAt[size - 1] <= createdAtMillis;
+        addArticle(articleId, authorId, createdAtMillis);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    public void tag(String articleId, String tag) {
+      lock.writeLock().lock();
+      try {
+        addTag(articleId, tag);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    public void favorite(String articleId, String userId) {
+      lock.writeLock().lock();
+      try {
+        addFavorite(articleId, userId);
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    public void finish() {
+      lock.writeLock().lock();
+      try {
+        if (!ordered) {
+          renumber();
+        }
+        ready = true;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.application.data.ArticleHeader;
+import io.spring.application.data.ArticleTag;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.infrastructure.memory.ArticleFilterIndex.BulkLoad;
+import io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper;
+import io.spring.infrastructure.mybatis.mapper.ArticleMapper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+
+/** Builds the {@link ArticleFilterIndex} at startup when {@code articles.filter-index.enabled}. */
+@Component
+@DependsOnDatabaseInitialization
+public class ArticleFilterIndexLoader implements InitializingBean {
+  private final ArticleFilterIndex articleFilterIndex;
+  private final ArticleMapper articleMapper;
+  private final ArticleFavoriteMapper articleFavoriteMapper;
+  private final boolean enabled;
+
+  public ArticleFilterIndexLoader(
+      ArticleFilterIndex articleFilterIndex,
+      ArticleMapper articleMapper,
+      ArticleFavoriteMapper articleFavoriteMapper,
+      @Value("${articles.filter-index.enabled:false}") boolean enabled) {
+    this.articleFilterIndex = articleFilterIndex;
+    this.articleMapper = articleMapper;
+    this.articleFavoriteMapper = articleFavoriteMapper;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    if (!enabled) {
+      return;
+    }
+    BulkLoad load = articleFilterIndex.bulkLoad();
+    articleMapper.findAllArticleHeaders(
+        context -> {
+          ArticleHeader row = context.getResultObject();
+          load.article(row.getId(), row.getUserId(), row.getCreatedAt().getMillis());
+        });
+    articleMapper.findAllArticleTags(
+        context -> {
+          ArticleTag row = context.getResultObject();
+          load.tag(row.getArticleId(), row.getTagName());
+        });
+    articleFavoriteMapper.findAll(
+        context -> {
+          ArticleFavorite row = context.getResultObject();
+          load.favorite(row.getArticleId(), row.getUserId());
+        });
+    load.finish();
+  }
+}
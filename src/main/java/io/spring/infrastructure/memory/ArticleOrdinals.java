@@ -0,0 +1,76 @@
+package io.spring.infrastructure.memory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dense int ordinals for article ids, shared by the in-memory article indexes so they can store
+ * ints instead of id strings. Ordinals are handed out in first-seen order and never reused.
+ */
+@Component
+public class ArticleOrdinals {
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private String[] ids = new String[64];
+  private int size = 0;
+
+  public int intern(String articleId) {
+    lock.readLock().lock();
+    try {
+      Integer existing = ordinals.get(articleId);
+      if (existing != null) {
+        return existing;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      Integer existing = ordinals.get(articleId);
+      if (existing != null) {
+        return existing;
+      }
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+      }
+      ids[size] = articleId;
+      ordinals.put(articleId, size);
+      return size++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** The ordinal of an article, or -1 if it was never interned. */
+  public int find(String articleId) {
+    lock.readLock().lock();
+    try {
+      Integer ordinal = ordinals.get(articleId);
+      return ordinal == null ? -1 : ordinal;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public String id(int ordinal) {
+    lock.readLock().lock();
+    try {
+      return ids[ordinal];
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,367 @@
+package io.spring.infrastructure.memory;
+
+import java.util.Arrays;
+
+/**
+ * A set of non-negative ints split into 65536-value chunks, roaring style. Sparse chunks are kept
+ * as sorted {@code char[]} arrays and switch to a 8 KiB bitset once they hold more than 4096
+ * values, so both a handful of members and a dense range stay compact.
+ */
+class CompressedBitmap {
+  private static final int ARRAY_MAX = 4096;
+
+  private char[] keys = new char[4];
+  private Container[] containers = new Container[4];
+  private int size = 0;
+
+  static CompressedBitmap of(int[] sorted, int count) {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    for (int i = 0; i < count; i++) {
+      bitmap.add(sorted[i]);
+    }
+    return bitmap;
+  }
+
+  boolean add(int value) {
+    char high = (char) (value >>> 16);
+    int index = Arrays.binarySearch(keys, 0, size, high);
+    if (index < 0) {
+      index = -index - 1;
+      insertContainer(index, high, new ArrayContainer());
+    }
+    Container container = containers[index];
+    int before = container.cardinality();
+    containers[index] = container.add((char) value);
+    return containers[index].cardinality() != before;
+  }
+
+  boolean remove(int value) {
+    int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+    if (index < 0) {
+      return false;
+    }
+    Container container = containers[index];
+    int before = container.cardinality();
+    containers[index] = container.remove((char) value);
+    if (containers[index].cardinality() == 0) {
+      System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+      System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+      containers[--size] = null;
+      return true;
+    }
+    return containers[index].cardinality() != before;
+  }
+
+  boolean contains(int value) {
+    int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+    return index >= 0 && containers[index].contains((char) value);
+  }
+
+  int cardinality() {
+    int cardinality = 0;
+    for (int i = 0; i < size; i++) {
+      cardinality += containers[i].cardinality();
+    }
+    return cardinality;
+  }
+
+  CompressedBitmap and(CompressedBitmap other) {
+    CompressedBitmap result = new CompressedBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        Container container = containers[i].and(other.containers[j]);
+        if (container.cardinality() > 0) {
+          result.insertContainer(result.size, keys[i], container);
+        }
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /** The largest member not greater than {@code value}, or -1. */
+  int floor(int value) {
+    if (value < 0) {
+      return -1;
+    }
+    int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+    if (index >= 0) {
+      int low = containers[index].floor((char) value);
+      if (low >= 0) {
+        return keys[index] << 16 | low;
+      }
+      index--;
+    } else {
+      index = -index - 2;
+    }
+    return index >= 0 ? keys[index] << 16 | containers[index].floor((char) 0xffff) : -1;
+  }
+
+  /** The smallest member not less than {@code value}, or -1. */
+  int ceiling(int value) {
+    if (value < 0) {
+      value = 0;
+    }
+    int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+    if (index >= 0) {
+      int low = containers[index].ceiling((char) value);
+      if (low >= 0) {
+        return keys[index] << 16 | low;
+      }
+      index++;
+    } else {
+      index = -index - 1;
+    }
+    return index < size ? keys[index] << 16 | containers[index].ceiling((char) 0) : -1;
+  }
+
+  int[] toArray() {
+    int[] result = new int[cardinality()];
+    int n = 0;
+    for (int i = 0; i < size; i++) {
+      Container container = containers[i];
+      int low = container.ceiling((char) 0);
+      while (low >= 0) {
+        result[n++] = keys[i] << 16 | low;
+        low = low == 0xffff ? -1 : container.ceiling((char) (low + 1));
+      }
+    }
+    return result;
+  }
+
+  long sizeInBytes() {
+    long bytes = 16L + keys.length * 2L + containers.length * 8L;
+    for (int i = 0; i < size; i++) {
+      bytes += containers[i].sizeInBytes();
+    }
+    return bytes;
+  }
+
+  private void insertContainer(int index, char key, Container container) {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      containers = Arrays.copyOf(containers, size * 2);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = key;
+    containers[index] = container;
+    size++;
+  }
+
+  private abstract static class Container {
+    abstract Container add(char value);
+
+    abstract Container remove(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    abstract int floor(char value);
+
+    abstract int ceiling(char value);
+
+    abstract long sizeInBytes();
+  }
+
+  private static class ArrayContainer extends Container {
+    private char[] values;
+    private int count;
+
+    ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int count) {
+      this.values = values;
+      this.count = count;
+    }
+
+    @Override
+    Container add(char value) {
+      int index = Arrays.binarySearch(values, 0, count, value);
+      if (index >= 0) {
+        return this;
+      }
+      if (count == ARRAY_MAX) {
+        return toBitset().add(value);
+      }
+      index = -index - 1;
+      if (count == values.length) {
+        values = Arrays.copyOf(values, Math.min(Math.max(4, count * 2), ARRAY_MAX));
+      }
+      System.arraycopy(values, index, values, index + 1, count - index);
+      values[index] = value;
+      count++;
+      return this;
+    }
+
+    @Override
+    Container remove(char value) {
+      int index = Arrays.binarySearch(values, 0, count, value);
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, count - index - 1);
+        count--;
+      }
+      return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, count, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+      return count;
+    }
+
+    @Override
+    Container and(Container other) {
+      char[] result = new char[Math.min(count, other.cardinality())];
+      int n = 0;
+      for (int i = 0; i < count; i++) {
+        if (other.contains(values[i])) {
+          result[n++] = values[i];
+        }
+      }
+      return new ArrayContainer(result, n);
+    }
+
+    @Override
+    int floor(char value) {
+      int index = Arrays.binarySearch(values, 0, count, value);
+      if (index >= 0) {
+        return value;
+      }
+      index = -index - 2;
+      return index >= 0 ? values[index] : -1;
+    }
+
+    @Override
+    int ceiling(char value) {
+      int index = Arrays.binarySearch(values, 0, count, value);
+      if (index >= 0) {
+        return value;
+      }
+      index = -index - 1;
+      return index < count ? values[index] : -1;
+    }
+
+    @Override
+    long sizeInBytes() {
+      return 16L + values.length * 2L;
+    }
+
+    private BitsetContainer toBitset() {
+      BitsetContainer bitset = new BitsetContainer();
+      for (int i = 0; i < count; i++) {
+        bitset.add(values[i]);
+      }
+      return bitset;
+    }
+  }
+
+  private static class BitsetContainer extends Container {
+    private final long[] words = new long[1024];
+    private int cardinality;
+
+    @Override
+    Container add(char value) {
+      long before = words[value >>> 6];
+      words[value >>> 6] |= 1L << value;
+      if (words[value >>> 6] != before) {
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    Container remove(char value) {
+      long before = words[value >>> 6];
+      words[value >>> 6] &= ~(1L << value);
+      if (words[value >>> 6] != before && --cardinality <= ARRAY_MAX) {
+        return toArray();
+      }
+      return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    Container and(Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.and(this);
+      }
+      BitsetContainer result = new BitsetContainer();
+      long[] otherWords = ((BitsetContainer) other).words;
+      for (int i = 0; i < words.length; i++) {
+        result.words[i] = words[i] & otherWords[i];
+        result.cardinality += Long.bitCount(result.words[i]);
+      }
+      return result.cardinality <= ARRAY_MAX ? result.toArray() : result;
+    }
+
+    @Override
+    int floor(char value) {
+      int index = value >>> 6;
+      long word = words[index] & (-1L >>> (63 - (value & 63)));
+      while (word == 0) {
+        if (--index < 0) {
+          return -1;
+        }
+        word = words[index];
+      }
+      return index * 64 + 63 - Long.numberOfLeadingZeros(word);
+    }
+
+    @Override
+    int ceiling(char value) {
+      int index = value >>> 6;
+      long word = words[index] & (-1L << value);
+      while (word == 0) {
+        if (++index == words.length) {
+          return -1;
+        }
+        word = words[index];
+      }
+      return index * 64 + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    long sizeInBytes() {
+      return 16L + words.length * 8L;
+    }
+
+    private ArrayContainer toArray() {
+      char[] values = new char[ARRAY_MAX];
+      int n = 0;
+      for (int i = 0; i < words.length; i++) {
+        long word = words[i];
+        while (word != 0) {
+          values[n++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      return new ArrayContainer(values, n);
+    }
+  }
+}
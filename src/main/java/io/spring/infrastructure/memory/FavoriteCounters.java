@@ -0,0 +1,77 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.core.event.ArticleDeletedEvent;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Favorite counts per article. Writers only touch a striped {@link LongAdder}, so a hot article
+ * does not serialize its favorites on a single lock. {@code article_favorites} stays the source of
+ * truth: {@link FavoriteCountersLoader} recounts it at startup.
+ */
+@Component
+public class FavoriteCounters {
+  private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+  public void increment(String articleId) {
+    add(articleId, 1);
+  }
+
+  public void decrement(String articleId) {
+    add(articleId, -1);
+  }
+
+  public int count(String articleId) {
+    Counter counter = counters.get(articleId);
+    return counter == null ? 0 : (int) Math.max(0, counter.total.sum());
+  }
+
+  /** Wall-clock time of the last in-process change, or 0 if there was none. */
+  public long changedAt(String articleId) {
+    Counter counter = counters.get(articleId);
+    return counter == null ? 0 : counter.changedAt;
+  }
+
+  public Map<String, Integer> counts(Collection<String> articleIds) {
+    Map<String, Integer> result = new HashMap<>();
+    for (String articleId : articleIds) {
+      result.put(articleId, count(articleId));
+    }
+    return result;
+  }
+
+  /** Replaces the total with a recounted one. */
+  public void load(String articleId, long count) {
+    Counter counter = counters.computeIfAbsent(articleId, id -> new Counter());
+    counter.total.reset();
+    counter.total.add(count);
+  }
+
+  public void forget(String articleId) {
+    counters.remove(articleId);
+  }
+
+  @EventListener
+  public void onArticleDeleted(ArticleDeletedEvent event) {
+    String articleId = event.getArticleId();
+    int count = count(articleId);
+    forget(articleId);
+    RollbackCompensation.register(() -> load(articleId, count));
+  }
+
+  private void add(String articleId, long delta) {
+    Counter counter = counters.computeIfAbsent(articleId, id -> new Counter());
+    counter.total.add(delta);
+    counter.changedAt = System.currentTimeMillis();
+  }
+
+  private static class Counter {
+    private final LongAdder total = new LongAdder();
+    private volatile long changedAt;
+  }
+}
@@ -0,0 +1,28 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.application.data.ArticleFavoriteCount;
+import io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+
+@Component
+@DependsOnDatabaseInitialization
+public class FavoriteCountersLoader implements InitializingBean {
+  private final FavoriteCounters counters;
+  private final ArticleFavoriteMapper mapper;
+
+  public FavoriteCountersLoader(FavoriteCounters counters, ArticleFavoriteMapper mapper) {
+    this.counters = counters;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    mapper.countAll(
+        context -> {
+          ArticleFavoriteCount count = context.getResultObject();
+          counters.load(count.getId(), count.getCount());
+        });
+  }
+}
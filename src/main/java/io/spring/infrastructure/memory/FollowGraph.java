@@ -0,0 +1,314 @@
+package io.spring.infrastructure.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process copy of the {@code follows} table.
+ *
+ * <p>User ids are interned to dense int ordinals. Every user owns two sorted {@code int[]}
+ * adjacency arrays, one for the users they follow and one for their followers, so an edge costs
+ * eight bytes plus the amortized array headers and membership tests are a binary search.
+ */
+@Component
+public class FollowGraph {
+  private static final int[] EMPTY = new int[0];
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int REFERENCE_BYTES = 8;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Integer> ordinals = new HashMap<>();
+  private String[] userIds = new String[64];
+  private int[][] following = new int[64][];
+  private int[][] followers = new int[64][];
+  private long[] versions = new long[64];
+  private int size = 0;
+  private long edges = 0;
+
+  public boolean follow(String userId, String targetId) {
+    lock.writeLock().lock();
+    try {
+      int user = intern(userId);
+      int target = intern(targetId);
+      int[] updated = insert(following[user], target);
+      if (updated == following[user]) {
+        return false;
+      }
+      following[user] = updated;
+      followers[target] = insert(followers[target], user);
+      versions[user]++;
+      edges++;
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public boolean unfollow(String userId, String targetId) {
+    lock.writeLock().lock();
+    try {
+      Integer user = ordinals.get(userId);
+      Integer target = ordinals.get(targetId);
+      if (user == null || target == null) {
+        return false;
+      }
+      int[] updated = delete(following[user], target);
+      if (updated == following[user]) {
+        return false;
+      }
+      following[user] = updated;
+      followers[target] = delete(followers[target], user);
+      versions[user]++;
+      edges--;
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public boolean isFollowing(String userId, String targetId) {
+    lock.readLock().lock();
+    try {
+      Integer user = ordinals.get(userId);
+      Integer target = ordinals.get(targetId);
+      return user != null && target != null && Arrays.binarySearch(following[user], target) >= 0;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public Set<String> followingAmong(String userId, Collection<String> candidates) {
+    Set<String> result = new HashSet<>();
+    lock.readLock().lock();
+    try {
+      Integer user = ordinals.get(userId);
+      if (user == null || following[user].length == 0) {
+        return result;
+      }
+      int[] targets = following[user];
+      for (String candidate : candidates) {
+        Integer target = ordinals.get(candidate);
+        if (target != null && Arrays.binarySearch(targets, target) >= 0) {
+          result.add(candidate);
+        }
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<String> followingOf(String userId) {
+    lock.readLock().lock();
+    try {
+      return resolve(ordinals.get(userId), following);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<String> followersOf(String userId) {
+    lock.readLock().lock();
+    try {
+      return resolve(ordinals.get(userId), followers);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Monotonic counter bumped whenever the set of users {@code userId} follows changes. */
+  public long followingVersion(String userId) {
+    lock.readLock().lock();
+    try {
+      Integer user = ordinals.get(userId);
+      return user == null ? 0 : versions[user];
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Accumulates edges without per-edge copying and merges them in a single pass. */
+  public BulkLoad bulkLoad() {
+    return new BulkLoad();
+  }
+
+  public int userCount() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public long edgeCount() {
+    lock.readLock().lock();
+    try {
+      return edges;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Rough retained size of the adjacency arrays, excluding the interned id strings. */
+  public long estimatedAdjacencyBytes() {
+    lock.readLock().lock();
+    try {
+      long bytes = 3L * (ARRAY_HEADER_BYTES + (long) userIds.length * REFERENCE_BYTES);
+      bytes += ARRAY_HEADER_BYTES + (long) versions.length * Long.BYTES;
+      for (int i = 0; i < size; i++) {
+        bytes += ARRAY_HEADER_BYTES + (long) following[i].length * Integer.BYTES;
+        bytes += ARRAY_HEADER_BYTES + (long) followers[i].length * Integer.BYTES;
+      }
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private int[][] merge(int[][] adjacency, int[] from, int[] to, int count) {
+    int[] degree = new int[size];
+    for (int i = 0; i < count; i++) {
+      degree[from[i]]++;
+    }
+    int[][] added = new int[size][];
+    for (int user = 0; user < size; user++) {
+      added[user] = degree[user] == 0 ? EMPTY : new int[degree[user]];
+      degree[user] = 0;
+    }
+    for (int i = 0; i < count; i++) {
+      added[from[i]][degree[from[i]]++] = to[i];
+    }
+    for (int user = 0; user < size; user++) {
+      if (added[user].length > 0) {
+        Arrays.sort(added[user]);
+        adjacency[user] = union(adjacency[user], added[user]);
+      }
+    }
+    return adjacency;
+  }
+
+  private static int[] union(int[] left, int[] right) {
+    int[] result = new int[left.length + right.length];
+    int i = 0;
+    int j = 0;
+    int n = 0;
+    while (i < left.length || j < right.length) {
+      int next;
+      if (j == right.length || (i < left.length && left[i] <= right[j])) {
+        next = left[i++];
+      } else {
+        next = right[j++];
+      }
+      if (n == 0 || result[n - 1] != next) {
+        result[n++] = next;
+      }
+    }
+    return n == result.length ? result : Arrays.copyOf(result, n);
+  }
+
+  private List<String> resolve(Integer user, int[][] adjacency) {
+    if (user == null) {
+      return new ArrayList<>();
+    }
+    int[] neighbours = adjacency[user];
+    List<String> result = new ArrayList<>(neighbours.length);
+    for (int neighbour : neighbours) {
+      result.add(userIds[neighbour]);
+    }
+    return result;
+  }
+
+  private int intern(String userId) {
+    Integer existing = ordinals.get(userId);
+    if (existing != null) {
+      return existing;
+    }
+    if (size == userIds.length) {
+      int capacity = size * 2;
+      userIds = Arrays.copyOf(userIds, capacity);
+      following = Arrays.copyOf(following, capacity);
+      followers = Arrays.copyOf(followers, capacity);
+      versions = Arrays.copyOf(versions, capacity);
+    }
+    int ordinal = size++;
+    userIds[ordinal] = userId;
+    following[ordinal] = EMPTY;
+    followers[ordinal] = EMPTY;
+    ordinals.put(userId, ordinal);
+    return ordinal;
+  }
+
+  private static int[] insert(int[] sorted, int value) {
+    int index = Arrays.binarySearch(sorted, value);
+    if (index >= 0) {
+      return sorted;
+    }
+    int position = -index - 1;
+    int[] result = new int[sorted.length + 1];
+    System.arraycopy(sorted, 0, result, 0, position);
+    result[position] = value;
+    System.arraycopy(sorted, position, result, position + 1, sorted.length - position);
+    return result;
+  }
+
+  private static int[] delete(int[] sorted, int value) {
+    int index = Arrays.binarySearch(sorted, value);
+    if (index < 0) {
+      return sorted;
+    }
+    if (sorted.length == 1) {
+      return EMPTY;
+    }
+    int[] result = new int[sorted.length - 1];
+    System.arraycopy(sorted, 0, result, 0, index);
+    System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+    return result;
+  }
+
+  public class BulkLoad {
+    private int[] sources = new int[1024];
+    private int[] targets = new int[1024];
+    private int count = 0;
+
+    public void add(String userId, String targetId) {
+      lock.writeLock().lock();
+      try {
+        if (count == sources.length) {
+          sources = Arrays.copyOf(sources, count * 2);
+          targets = Arrays.copyOf(targets, count * 2);
+        }
+        sources[count] = intern(userId);
+        targets[count] = intern(targetId);
+        count++;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    public void finish() {
+      lock.writeLock().lock();
+      try {
+        following = merge(following, sources, targets, count);
+        followers = merge(followers, targets, sources, count);
+        long total = 0;
+        for (int user = 0; user < size; user++) {
+          total += following[user].length;
+        }
+        edges = total;
+        count = 0;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.core.user.FollowRelation;
+import io.spring.infrastructure.mybatis.mapper.UserMapper;
+import io.spring.infrastructure.mybatis.readservice.UserRelationshipQueryService;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Service;
+
+@Service
+@DependsOnDatabaseInitialization
+public class FollowGraphRelationshipQueryService
+    implements UserRelationshipQueryService, InitializingBean {
+  private final FollowGraph followGraph;
+  private final UserMapper userMapper;
+
+  public FollowGraphRelationshipQueryService(FollowGraph followGraph, UserMapper userMapper) {
+    this.followGraph = followGraph;
+    this.userMapper = userMapper;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    FollowGraph.BulkLoad load = followGraph.bulkLoad();
+    userMapper.findAllRelations(
+        context -> {
+          FollowRelation relation = context.getResultObject();
+          load.add(relation.getUserId(), relation.getTargetId());
+        });
+    load.finish();
+  }
+
+  @Override
+  public boolean isUserFollowing(String userId, String anotherUserId) {
+    return followGraph.isFollowing(userId, anotherUserId);
+  }
+
+  @Override
+  public Set<String> followingAuthors(String userId, List<String> ids) {
+    return followGraph.followingAmong(userId, ids);
+  }
+
+  @Override
+  public List<String> followedUsers(String userId) {
+    return followGraph.followingOf(userId);
+  }
+}
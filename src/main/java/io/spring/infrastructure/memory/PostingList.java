@@ -0,0 +1,95 @@
+package io.spring.infrastructure.memory;
+
+import java.util.Arrays;
+
+/**
+ * A sorted set of ordinals stored as delta-encoded varints. Appending in ascending order, the
+ * common case for new articles, costs a few bytes; anything else re-encodes the list.
+ */
+class PostingList {
+  private byte[] bytes = new byte[4];
+  private int length = 0;
+  private int count = 0;
+  private int last = -1;
+
+  boolean add(int ordinal) {
+    if (ordinal > last) {
+      append(ordinal);
+      return true;
+    }
+    int[] ordinals = toArray();
+    int index = Arrays.binarySearch(ordinals, ordinal);
+    if (index >= 0) {
+      return false;
+    }
+    int position = -index - 1;
+    int[] updated = new int[ordinals.length + 1];
+    System.arraycopy(ordinals, 0, updated, 0, position);
+    updated[position] = ordinal;
+    System.arraycopy(ordinals, position, updated, position + 1, ordinals.length - position);
+    reset(updated, updated.length);
+    return true;
+  }
+
+  boolean remove(int ordinal) {
+    int[] ordinals = toArray();
+    int index = Arrays.binarySearch(ordinals, ordinal);
+    if (index < 0) {
+      return false;
+    }
+    System.arraycopy(ordinals, index + 1, ordinals, index, ordinals.length - index - 1);
+    reset(ordinals, ordinals.length - 1);
+    return true;
+  }
+
+  int size() {
+    return count;
+  }
+
+  int sizeInBytes() {
+    return length;
+  }
+
+  int[] toArray() {
+    int[] result = new int[count];
+    int position = 0;
+    int previous = 0;
+    for (int i = 0; i < count; i++) {
+      int delta = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = bytes[position++];
+        delta |= (b & 0x7f) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      previous = i == 0 ? delta : previous + delta;
+      result[i] = previous;
+    }
+    return result;
+  }
+
+  private void reset(int[] ordinals, int n) {
+    bytes = new byte[Math.max(4, n * 2)];
+    length = 0;
+    count = 0;
+    last = -1;
+    for (int i = 0; i < n; i++) {
+      append(ordinals[i]);
+    }
+  }
+
+  private void append(int ordinal) {
+    int delta = count == 0 ? ordinal : ordinal - last;
+    if (length + 5 > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+    }
+    while ((delta & ~0x7f) != 0) {
+      bytes[length++] = (byte) ((delta & 0x7f) | 0x80);
+      delta >>>= 7;
+    }
+    bytes[length++] = (byte) delta;
+    last = ordinal;
+    count++;
+  }
+}
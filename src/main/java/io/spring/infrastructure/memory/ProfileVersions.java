@@ -0,0 +1,48 @@
+package io.spring.infrastructure.memory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Change counters for user profiles, which carry no {@code updated_at} column. Counters start over
+ * on restart, so callers mix {@link #epoch()} into anything they derive from them, and change
+ * times are never reported as earlier than the epoch.
+ */
+@Component
+public class ProfileVersions {
+  private final long epoch = System.currentTimeMillis();
+  private final ConcurrentHashMap<String, Version> versions = new ConcurrentHashMap<>();
+  private final AtomicLong global = new AtomicLong();
+
+  public void bump(String userId) {
+    Version version = versions.computeIfAbsent(userId, id -> new Version());
+    version.changedAt = System.currentTimeMillis();
+    version.count.incrementAndGet();
+    global.incrementAndGet();
+  }
+
+  public long version(String userId) {
+    Version version = versions.get(userId);
+    return version == null ? 0 : version.count.get();
+  }
+
+  public long changedAt(String userId) {
+    Version version = versions.get(userId);
+    return version == null ? epoch : Math.max(epoch, version.changedAt);
+  }
+
+  /** Bumped whenever any profile changes. */
+  public long globalVersion() {
+    return global.get();
+  }
+
+  public long epoch() {
+    return epoch;
+  }
+
+  private static class Version {
+    private final AtomicLong count = new AtomicLong();
+    private volatile long changedAt;
+  }
+}
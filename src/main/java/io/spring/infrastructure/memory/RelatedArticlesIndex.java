@@ -0,0 +1,169 @@
+package io.spring.infrastructure.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inverted index from tag name to the articles carrying it, used to find articles that share the
+ * most tags with a given one.
+ *
+ * <p>Similarity is an IDF-weighted Jaccard: the summed weights of the shared tags over the summed
+ * weights of all tags of both articles, with {@code idf(t) = ln(1 + N / df(t))} so that sharing a
+ * rare tag counts for more than sharing a tag every article has.
+ */
+@Component
+public class RelatedArticlesIndex {
+  private final ArticleOrdinals ordinals;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, PostingList> postings = new HashMap<>();
+  private final Map<Integer, String[]> tagsOf = new HashMap<>();
+
+  public RelatedArticlesIndex(ArticleOrdinals ordinals) {
+    this.ordinals = ordinals;
+  }
+
+  public void add(String articleId, Collection<String> tags) {
+    if (tags.isEmpty()) {
+      return;
+    }
+    int ordinal = ordinals.intern(articleId);
+    lock.writeLock().lock();
+    try {
+      String[] previous = tagsOf.put(ordinal, tags.toArray(new String[0]));
+      if (previous != null) {
+        unlink(ordinal, previous);
+      }
+      for (String tag : tags) {
+        postings.computeIfAbsent(tag, t -> new PostingList()).add(ordinal);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(String articleId) {
+    int ordinal = ordinals.find(articleId);
+    if (ordinal < 0) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      String[] tags = tagsOf.remove(ordinal);
+      if (tags != null) {
+        unlink(ordinal, tags);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Up to {@code k} article ids most similar to {@code articleId}, best first. */
+  public List<String> related(String articleId, int k) {
+    int ordinal = ordinals.find(articleId);
+    if (ordinal < 0 || k <= 0) {
+      return Collections.emptyList();
+    }
+    List<Integer> best;
+    lock.readLock().lock();
+    try {
+      String[] tags = tagsOf.get(ordinal);
+      if (tags == null) {
+        return Collections.emptyList();
+      }
+      Map<Integer, Double> shared = new HashMap<>();
+      double ownWeight = 0;
+      for (String tag : tags) {
+        PostingList list = postings.get(tag);
+        double weight = idf(list);
+        ownWeight += weight;
+        for (int other : list.toArray()) {
+          if (other != ordinal) {
+            shared.merge(other, weight, Double::sum);
+          }
+        }
+      }
+      PriorityQueue<Scored> top = new PriorityQueue<>(k + 1);
+      for (Map.Entry<Integer, Double> entry : shared.entrySet()) {
+        double intersection = entry.getValue();
+        double union = ownWeight + weightOf(tagsOf.get(entry.getKey())) - intersection;
+        top.add(new Scored(entry.getKey(), intersection / union));
+        if (top.size() > k) {
+          top.poll();
+        }
+      }
+      Scored[] ranked = top.toArray(new Scored[0]);
+      Arrays.sort(ranked, Collections.reverseOrder());
+      best = new ArrayList<>(ranked.length);
+      for (Scored scored : ranked) {
+        best.add(scored.ordinal);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    List<String> result = new ArrayList<>(best.size());
+    for (int other : best) {
+      result.add(ordinals.id(other));
+    }
+    return result;
+  }
+
+  /** Encoded size of all posting lists, for monitoring. */
+  public long postingBytes() {
+    lock.readLock().lock();
+    try {
+      long bytes = 0;
+      for (PostingList list : postings.values()) {
+        bytes += list.sizeInBytes();
+      }
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void unlink(int ordinal, String[] tags) {
+    for (String tag : tags) {
+      PostingList list = postings.get(tag);
+      if (list != null && list.remove(ordinal) && list.size() == 0) {
+        postings.remove(tag);
+      }
+    }
+  }
+
+  private double weightOf(String[] tags) {
+    double weight = 0;
+    for (String tag : tags) {
+      weight += idf(postings.get(tag));
+    }
+    return weight;
+  }
+
+  private double idf(PostingList list) {
+    return Math.log(1 + (double) tagsOf.size() / list.size());
+  }
+
+  private static class Scored implements Comparable<Scored> {
+    private final int ordinal;
+    private final double score;
+
+    private Scored(int ordinal, double score) {
+      this.ordinal = ordinal;
+      this.score = score;
+    }
+
+    @Override
+    public int compareTo(Scored other) {
+      int byScore = Double.compare(score, other.score);
+      return byScore != 0 ? byScore : Integer.compare(other.ordinal, ordinal);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.application.data.ArticleTag;
+import io.spring.infrastructure.mybatis.mapper.ArticleMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+
+@Component
+@DependsOnDatabaseInitialization
+public class RelatedArticlesIndexLoader implements InitializingBean {
+  private final RelatedArticlesIndex relatedArticlesIndex;
+  private final ArticleMapper articleMapper;
+
+  public RelatedArticlesIndexLoader(
+      RelatedArticlesIndex relatedArticlesIndex, ArticleMapper articleMapper) {
+    this.relatedArticlesIndex = relatedArticlesIndex;
+    this.articleMapper = articleMapper;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    List<String> tags = new ArrayList<>();
+    String[] current = new String[1];
+    articleMapper.findAllArticleTags(
+        context -> {
+          ArticleTag row = context.getResultObject();
+          if (!row.getArticleId().equals(current[0])) {
+            flush(current[0], tags);
+            current[0] = row.getArticleId();
+          }
+          tags.add(row.getTagName());
+        });
+    flush(current[0], tags);
+  }
+
+  private void flush(String articleId, List<String> tags) {
+    if (articleId != null) {
+      relatedArticlesIndex.add(articleId, tags);
+    }
+    tags.clear();
+  }
+}
@@ -0,0 +1,26 @@
+package io.spring.infrastructure.memory;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory stores are updated as soon as the SQL write succeeds so the writing transaction reads
+ * its own changes. If that transaction later rolls back the change has to be undone by hand.
+ */
+public class RollbackCompensation {
+
+  public static void register(Runnable undo) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_ROLLED_BACK) {
+              undo.run();
+            }
+          }
+        });
+  }
+}
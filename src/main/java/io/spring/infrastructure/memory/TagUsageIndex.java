@@ -0,0 +1,94 @@
+package io.spring.infrastructure.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tags ordered by how many articles use them. Every change moves a single entry in the ordered
+ * set, so the first {@code k} tags are always available without sorting.
+ */
+@Component
+public class TagUsageIndex {
+  private static final Comparator<Usage> MOST_USED_FIRST =
+      Comparator.comparingLong((Usage usage) -> usage.count)
+          .reversed()
+          .thenComparing(usage -> usage.tag);
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Usage> usages = new HashMap<>();
+  private final TreeSet<Usage> ranking = new TreeSet<>(MOST_USED_FIRST);
+  private long version = 0;
+
+  public void add(String tag, long delta) {
+    lock.writeLock().lock();
+    try {
+      Usage current = usages.get(tag);
+      long count = (current == null ? 0 : current.count) + delta;
+      if (current != null) {
+        ranking.remove(current);
+      }
+      if (count > 0) {
+        Usage updated = new Usage(tag, count);
+        usages.put(tag, updated);
+        ranking.add(updated);
+      } else {
+        usages.remove(tag);
+      }
+      version++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public List<String> top(int k) {
+    lock.readLock().lock();
+    try {
+      List<String> result = new ArrayList<>(Math.min(k, ranking.size()));
+      Iterator<Usage> iterator = ranking.iterator();
+      while (result.size() < k && iterator.hasNext()) {
+        result.add(iterator.next().tag);
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public long count(String tag) {
+    lock.readLock().lock();
+    try {
+      Usage usage = usages.get(tag);
+      return usage == null ? 0 : usage.count;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Bumped on every change to the ranking. */
+  public long version() {
+    lock.readLock().lock();
+    try {
+      return version;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static class Usage {
+    private final String tag;
+    private final long count;
+
+    private Usage(String tag, long count) {
+      this.tag = tag;
+      this.count = count;
+    }
+  }
+}
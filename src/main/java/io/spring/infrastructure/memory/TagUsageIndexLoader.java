@@ -0,0 +1,26 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.application.data.TagUsage;
+import io.spring.infrastructure.mybatis.readservice.TagReadService;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+
+@Component
+@DependsOnDatabaseInitialization
+public class TagUsageIndexLoader implements InitializingBean {
+  private final TagUsageIndex tagUsageIndex;
+  private final TagReadService tagReadService;
+
+  public TagUsageIndexLoader(TagUsageIndex tagUsageIndex, TagReadService tagReadService) {
+    this.tagUsageIndex = tagUsageIndex;
+    this.tagReadService = tagReadService;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    for (TagUsage usage : tagReadService.allUsage()) {
+      tagUsageIndex.add(usage.getName(), usage.getCount());
+    }
+  }
+}
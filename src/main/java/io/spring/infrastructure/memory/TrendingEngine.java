@@ -0,0 +1,107 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.application.data.TrendingScore;
+import io.spring.core.event.ArticleDeletedEvent;
+import io.spring.core.event.ArticleFavoritedEvent;
+import io.spring.core.event.ArticleUnfavoritedEvent;
+import io.spring.core.event.ArticleViewedEvent;
+import io.spring.core.event.CommentAddedEvent;
+import io.spring.infrastructure.mybatis.mapper.TrendingMapper;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Feeds committed article activity into {@link TrendingScores} and checkpoints the scores to
+ * {@code trending_scores} so a restart does not forget what was trending.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class TrendingEngine implements InitializingBean, DisposableBean {
+  static final double VIEW_WEIGHT = 1;
+  static final double COMMENT_WEIGHT = 3;
+  static final double FAVORITE_WEIGHT = 5;
+
+  private final TrendingScores scores;
+  private final TrendingMapper mapper;
+  private final TrendingMapper batchMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  public TrendingEngine(
+      TrendingScores scores,
+      TrendingMapper mapper,
+      SqlSessionFactory sqlSessionFactory,
+      PlatformTransactionManager transactionManager) {
+    this.scores = scores;
+    this.mapper = mapper;
+    this.batchMapper =
+        new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH)
+            .getMapper(TrendingMapper.class);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    mapper.findAll(
+        context -> {
+          TrendingScore score = context.getResultObject();
+          scores.restore(score.getArticleId(), score.getScore(), score.getComputedAt());
+        });
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onViewed(ArticleViewedEvent event) {
+    scores.record(event.getArticleId(), VIEW_WEIGHT);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCommentAdded(CommentAddedEvent event) {
+    scores.record(event.getArticleId(), COMMENT_WEIGHT);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onFavorited(ArticleFavoritedEvent event) {
+    scores.record(event.getArticleId(), FAVORITE_WEIGHT);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUnfavorited(ArticleUnfavoritedEvent event) {
+    scores.record(event.getArticleId(), -FAVORITE_WEIGHT);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDeleted(ArticleDeletedEvent event) {
+    scores.remove(event.getArticleId());
+  }
+
+  @Scheduled(fixedDelayString = "${trending.checkpoint-interval-ms:60000}")
+  public void checkpoint() {
+    long now = System.currentTimeMillis();
+    Map<String, Double> snapshot = scores.snapshot();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            batchMapper.deleteAll();
+            snapshot.forEach((articleId, score) -> batchMapper.insert(articleId, score, now));
+          });
+    } catch (RuntimeException e) {
+      log.warn("Failed to checkpoint {} trending scores", snapshot.size(), e);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    checkpoint();
+  }
+}
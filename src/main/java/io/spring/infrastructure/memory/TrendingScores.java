@@ -0,0 +1,168 @@
+package io.spring.infrastructure.memory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exponentially decayed activity scores per article, bounded to the {@code capacity} best.
+ *
+ * <p>Scores use forward decay: an event of weight {@code w} at time {@code t} is stored as {@code w
+ * * e^(lambda * (t - landmark))}. Decay then scales every score by the same factor, so the ranking
+ * only changes when an event arrives and the ordered set never has to be re-sorted as time passes.
+ * The landmark is moved forward before the stored values could overflow.
+ */
+@Component
+public class TrendingScores {
+  private static final double MAX_EXPONENT = 30;
+
+  private final double lambda;
+  private final int capacity;
+  private final LongSupplier clock;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Score> scores = new HashMap<>();
+  private final TreeSet<Score> ranking =
+      new TreeSet<>(
+          Comparator.comparingDouble((Score score) -> score.value)
+              .reversed()
+              .thenComparing(score -> score.articleId));
+  private long landmark;
+
+  @Autowired
+  public TrendingScores(
+      @Value("${trending.half-life-hours:24}") double halfLifeHours,
+      @Value("${trending.capacity:10000}") int capacity) {
+    this((long) (halfLifeHours * TimeUnit.HOURS.toMillis(1)), capacity, System::currentTimeMillis);
+  }
+
+  TrendingScores(long halfLifeMillis, int capacity, LongSupplier clock) {
+    this.lambda = Math.log(2) / halfLifeMillis;
+    this.capacity = capacity;
+    this.clock = clock;
+    this.landmark = clock.getAsLong();
+  }
+
+  /** Adds an event of the given weight happening now. Negative weights retract activity. */
+  public void record(String articleId, double weight) {
+    add(articleId, weight, clock.getAsLong());
+  }
+
+  /** Adds a score that was last decayed at {@code at}, e.g. one read back from a checkpoint. */
+  public void restore(String articleId, double score, long at) {
+    add(articleId, score, at);
+  }
+
+  public void remove(String articleId) {
+    lock.writeLock().lock();
+    try {
+      Score score = scores.remove(articleId);
+      if (score != null) {
+        ranking.remove(score);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public List<String> top(int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      List<String> result = new ArrayList<>(Math.min(limit, ranking.size()));
+      Iterator<Score> iterator = ranking.iterator();
+      for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+        iterator.next();
+      }
+      while (result.size() < limit && iterator.hasNext()) {
+        result.add(iterator.next().articleId);
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return scores.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Current decayed scores of every tracked article. */
+  public Map<String, Double> snapshot() {
+    lock.readLock().lock();
+    try {
+      double decay = Math.exp(-lambda * (clock.getAsLong() - landmark));
+      Map<String, Double> result = new HashMap<>(scores.size() * 2);
+      scores.forEach((articleId, score) -> result.put(articleId, score.value * decay));
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void add(String articleId, double weight, long at) {
+    lock.writeLock().lock();
+    try {
+      if (lambda * (at - landmark) > MAX_EXPONENT) {
+        rebase(at);
+      }
+      Score current = scores.get(articleId);
+      double value = weight * Math.exp(lambda * (at - landmark));
+      if (current != null) {
+        ranking.remove(current);
+        value += current.value;
+      }
+      if (value <= 0) {
+        scores.remove(articleId);
+        return;
+      }
+      Score updated = new Score(articleId, value);
+      scores.put(articleId, updated);
+      ranking.add(updated);
+      if (ranking.size() > capacity) {
+        scores.remove(ranking.pollLast().articleId);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void rebase(long newLandmark) {
+    double factor = Math.exp(-lambda * (newLandmark - landmark));
+    List<Score> rescaled = new ArrayList<>(scores.size());
+    for (Score score : ranking) {
+      rescaled.add(new Score(score.articleId, score.value * factor));
+    }
+    scores.clear();
+    ranking.clear();
+    for (Score score : rescaled) {
+      scores.put(score.articleId, score);
+      ranking.add(score);
+    }
+    landmark = newLandmark;
+  }
+
+  private static class Score {
+    private final String articleId;
+    private final double value;
+
+    private Score(String articleId, double value) {
+      this.articleId = articleId;
+      this.value = value;
+    }
+  }
+}
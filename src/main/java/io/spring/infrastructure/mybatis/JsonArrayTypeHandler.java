@@ -0,0 +1,65 @@
+package io.spring.infrastructure.mybatis;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Binds a collection of strings as one JSON array parameter, to be expanded in SQL with {@code
+ * json_each}. The statement text no longer depends on the collection size, so it stays cached and
+ * is not limited by the number of bind parameters SQLite accepts. Only used where a mapper names it
+ * explicitly.
+ */
+public class JsonArrayTypeHandler implements TypeHandler<Collection<String>> {
+
+  @Override
+  public void setParameter(
+      PreparedStatement ps, int i, Collection<String> parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setString(i, toJson(parameter));
+  }
+
+  @Override
+  public Collection<String> getResult(ResultSet rs, String columnName) {
+    throw new UnsupportedOperationException("JSON arrays are only bound as parameters");
+  }
+
+  @Override
+  public Collection<String> getResult(ResultSet rs, int columnIndex) {
+    throw new UnsupportedOperationException("JSON arrays are only bound as parameters");
+  }
+
+  @Override
+  public Collection<String> getResult(CallableStatement cs, int columnIndex) {
+    throw new UnsupportedOperationException("JSON arrays are only bound as parameters");
+  }
+
+  static String toJson(Collection<String> values) {
+    if (values == null) {
+      return "[]";
+    }
+    StringBuilder json = new StringBuilder(values.size() * 40 + 2).append('[');
+    for (String value : values) {
+      if (json.length() > 1) {
+        json.append(',');
+      }
+      json.append('"');
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == '"' || c == '\\') {
+          json.append('\\').append(c);
+        } else if (c < 0x20) {
+          json.append(String.format("\\u%04x", (int) c));
+        } else {
+          json.append(c);
+        }
+      }
+      json.append('"');
+    }
+    return json.append(']').toString();
+  }
+}
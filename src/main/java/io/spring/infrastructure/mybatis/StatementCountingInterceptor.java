@@ -0,0 +1,55 @@
+package io.spring.infrastructure.mybatis;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the JDBC statements MyBatis prepares on each thread, so callers can measure how many a
+ * piece of work issued by comparing {@link #count()} before and after. Work handed to another
+ * thread through {@link #chargingCaller} counts for the thread that handed it over. Second-level
+ * cache hits prepare nothing and are not counted.
+ */
+@Component
+@Intercepts(
+    @Signature(
+        type = StatementHandler.class,
+        method = "prepare",
+        args = {Connection.class, Integer.class}))
+public class StatementCountingInterceptor implements Interceptor {
+  private static final ThreadLocal<AtomicLong> COUNT = ThreadLocal.withInitial(AtomicLong::new);
+
+  /** Statements prepared on the current thread so far. */
+  public static long count() {
+    return COUNT.get().get();
+  }
+
+  /**
+   * {@code work} charging the statements it prepares to the calling thread, whichever thread it
+   * later runs on.
+   */
+  public static <T> Supplier<T> chargingCaller(Supplier<T> work) {
+    AtomicLong caller = COUNT.get();
+    return () -> {
+      AtomicLong own = COUNT.get();
+      COUNT.set(caller);
+      try {
+        return work.get();
+      } finally {
+        COUNT.set(own);
+      }
+    };
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    COUNT.get().incrementAndGet();
+    return invocation.proceed();
+  }
+}
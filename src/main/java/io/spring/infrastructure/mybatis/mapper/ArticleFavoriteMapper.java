@@ -1,8 +1,10 @@
 package io.spring.infrastructure.mybatis.mapper;
 
+import io.spring.application.data.ArticleFavoriteCount;
 import io.spring.core.favorite.ArticleFavorite;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface ArticleFavoriteMapper {
@@ -10,5 +12,9 @@ public interface ArticleFavoriteMapper {
 
   void insert(@Param("articleFavorite") ArticleFavorite articleFavorite);
 
-  void delete(@Param("favorite") ArticleFavorite favorite);
+  int delete(@Param("favorite") ArticleFavorite favorite);
+
+  void countAll(ResultHandler<ArticleFavoriteCount> handler);
+
+  void findAll(ResultHandler<ArticleFavorite> handler);
 }
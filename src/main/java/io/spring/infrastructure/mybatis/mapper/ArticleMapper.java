@@ -1,9 +1,13 @@
 package io.spring.infrastructure.mybatis.mapper;
 
+import io.spring.application.data.ArticleHeader;
+import io.spring.application.data.ArticleTag;
 import io.spring.core.article.Article;
 import io.spring.core.article.Tag;
+import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface ArticleMapper {
@@ -17,6 +21,18 @@ public interface ArticleMapper {
 
   void insertArticleTagRelation(@Param("articleId") String articleId, @Param("tagId") String tagId);
 
+  void incrementTagUsage(@Param("tagId") String tagId);
+
+  List<Tag> findTagsOfArticle(@Param("articleId") String articleId);
+
+  void decrementTagUsageOfArticle(@Param("articleId") String articleId);
+
+  void deleteArticleTagRelations(@Param("articleId") String articleId);
+
+  void findAllArticleTags(ResultHandler<ArticleTag> handler);
+
+  void findAllArticleHeaders(ResultHandler<ArticleHeader> handler);
+
   Article findBySlug(@Param("slug") String slug);
 
   void update(@Param("article") Article article);
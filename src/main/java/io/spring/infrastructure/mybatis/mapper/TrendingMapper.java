@@ -0,0 +1,18 @@
+package io.spring.infrastructure.mybatis.mapper;
+
+import io.spring.application.data.TrendingScore;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+@Mapper
+public interface TrendingMapper {
+  void deleteAll();
+
+  void insert(
+      @Param("articleId") String articleId,
+      @Param("score") double score,
+      @Param("computedAt") long computedAt);
+
+  void findAll(ResultHandler<TrendingScore> handler);
+}
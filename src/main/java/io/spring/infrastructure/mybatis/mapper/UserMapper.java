@@ -4,6 +4,7 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface UserMapper {
@@ -22,4 +23,6 @@ public interface UserMapper {
   void saveRelation(@Param("followRelation") FollowRelation followRelation);
 
   void deleteRelation(@Param("followRelation") FollowRelation followRelation);
+
+  void findAllRelations(ResultHandler<FollowRelation> handler);
 }
@@ -1,6 +1,5 @@
 package io.spring.infrastructure.mybatis.readservice;
 
-import io.spring.application.data.ArticleFavoriteCount;
 import io.spring.core.user.User;
 import java.util.List;
 import java.util.Set;
@@ -11,9 +10,5 @@ import org.apache.ibatis.annotations.Param;
 public interface ArticleFavoritesReadService {
   boolean isUserFavorite(@Param("userId") String userId, @Param("articleId") String articleId);
 
-  int articleFavoriteCount(@Param("articleId") String articleId);
-
-  List<ArticleFavoriteCount> articlesFavoriteCount(@Param("ids") List<String> ids);
-
   Set<String> userFavorites(@Param("ids") List<String> ids, @Param("currentUser") User currentUser);
 }
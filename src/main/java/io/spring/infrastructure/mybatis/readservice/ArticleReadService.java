@@ -1,5 +1,6 @@
 package io.spring.infrastructure.mybatis.readservice;
 
+import io.spring.application.ArticleFields;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.Page;
 import io.spring.application.data.ArticleData;
@@ -9,9 +10,14 @@ import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface ArticleReadService {
-  ArticleData findById(@Param("id") String id);
+  ArticleData findById(@Param("id") String id, @Param("fields") ArticleFields fields);
 
-  ArticleData findBySlug(@Param("slug") String slug);
+  ArticleData findBySlug(@Param("slug") String slug, @Param("fields") ArticleFields fields);
+
+  String findIdBySlug(@Param("slug") String slug);
+
+  List<ArticleData> findBySlugs(
+      @Param("slugs") List<String> slugs, @Param("fields") ArticleFields fields);
 
   List<String> queryArticles(
       @Param("tag") String tag,
@@ -24,13 +30,18 @@ public interface ArticleReadService {
       @Param("author") String author,
       @Param("favoritedBy") String favoritedBy);
 
-  List<ArticleData> findArticles(@Param("articleIds") List<String> articleIds);
+  List<ArticleData> findArticles(
+      @Param("articleIds") List<String> articleIds, @Param("fields") ArticleFields fields);
 
   List<ArticleData> findArticlesOfAuthors(
-      @Param("authors") List<String> authors, @Param("page") Page page);
+      @Param("authors") List<String> authors,
+      @Param("page") Page page,
+      @Param("fields") ArticleFields fields);
 
   List<ArticleData> findArticlesOfAuthorsWithCursor(
-      @Param("authors") List<String> authors, @Param("page") CursorPageParameter page);
+      @Param("authors") List<String> authors,
+      @Param("page") CursorPageParameter page,
+      @Param("fields") ArticleFields fields);
 
   int countFeedSize(@Param("authors") List<String> authors);
 
@@ -2,6 +2,7 @@ package io.spring.infrastructure.mybatis.readservice;
 
 import io.spring.application.CursorPageParameter;
 import io.spring.application.data.CommentData;
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -15,4 +16,8 @@ public interface CommentReadService {
 
   List<CommentData> findByArticleIdWithCursor(
       @Param("articleId") String articleId, @Param("page") CursorPageParameter<DateTime> page);
+
+  List<CommentData> findByArticleIdsWithCursor(
+      @Param("articleIds") Collection<String> articleIds,
+      @Param("page") CursorPageParameter<DateTime> page);
 }
@@ -0,0 +1,16 @@
+package io.spring.infrastructure.mybatis.readservice;
+
+import io.spring.application.data.ResourceStamp;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ResourceVersionReadService {
+  ResourceStamp articleStamp(@Param("slug") String slug);
+
+  ResourceStamp profileStamp(@Param("username") String username);
+
+  ResourceStamp commentsStamp(@Param("slug") String slug);
+
+  ResourceStamp tagsStamp();
+}
@@ -1,9 +1,12 @@
 package io.spring.infrastructure.mybatis.readservice;
 
+import io.spring.application.data.TagUsage;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 
 @Mapper
 public interface TagReadService {
   List<String> all();
+
+  List<TagUsage> allUsage();
 }
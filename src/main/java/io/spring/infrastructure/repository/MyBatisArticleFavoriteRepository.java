@@ -1,25 +1,48 @@
 package io.spring.infrastructure.repository;
 
+import io.spring.core.event.ArticleFavoritedEvent;
+import io.spring.core.event.ArticleUnfavoritedEvent;
 import io.spring.core.favorite.ArticleFavorite;
 import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.FavoriteCounters;
+import io.spring.infrastructure.memory.RollbackCompensation;
 import io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MyBatisArticleFavoriteRepository implements ArticleFavoriteRepository {
   private ArticleFavoriteMapper mapper;
+  private FavoriteCounters favoriteCounters;
+  private ArticleFilterIndex articleFilterIndex;
+  private ApplicationEventPublisher eventPublisher;
 
   @Autowired
-  public MyBatisArticleFavoriteRepository(ArticleFavoriteMapper mapper) {
+  public MyBatisArticleFavoriteRepository(
+      ArticleFavoriteMapper mapper,
+      FavoriteCounters favoriteCounters,
+      ArticleFilterIndex articleFilterIndex,
+      ApplicationEventPublisher eventPublisher) {
     this.mapper = mapper;
+    this.favoriteCounters = favoriteCounters;
+    this.articleFilterIndex = articleFilterIndex;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public void save(ArticleFavorite articleFavorite) {
     if (mapper.find(articleFavorite.getArticleId(), articleFavorite.getUserId()) == null) {
       mapper.insert(articleFavorite);
+      String articleId = articleFavorite.getArticleId();
+      favoriteCounters.increment(articleId);
+      RollbackCompensation.register(() -> favoriteCounters.decrement(articleId));
+      String userId = articleFavorite.getUserId();
+      articleFilterIndex.favorite(articleId, userId);
+      RollbackCompensation.register(() -> articleFilterIndex.unfavorite(articleId, userId));
+      eventPublisher.publishEvent(new ArticleFavoritedEvent(articleId, userId));
     }
   }
 
@@ -30,6 +53,14 @@ public class MyBatisArticleFavoriteRepository implements ArticleFavoriteReposito
 
   @Override
   public void remove(ArticleFavorite favorite) {
-    mapper.delete(favorite);
+    if (mapper.delete(favorite) > 0) {
+      String articleId = favorite.getArticleId();
+      favoriteCounters.decrement(articleId);
+      RollbackCompensation.register(() -> favoriteCounters.increment(articleId));
+      String userId = favorite.getUserId();
+      articleFilterIndex.unfavorite(articleId, userId);
+      RollbackCompensation.register(() -> articleFilterIndex.favorite(articleId, userId));
+      eventPublisher.publishEvent(new ArticleUnfavoritedEvent(articleId, userId));
+    }
   }
 }
@@ -3,17 +3,39 @@ package io.spring.infrastructure.repository;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.article.Tag;
+import io.spring.core.event.ArticleCreatedEvent;
+import io.spring.core.event.ArticleDeletedEvent;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.RelatedArticlesIndex;
+import io.spring.infrastructure.memory.RollbackCompensation;
+import io.spring.infrastructure.memory.TagUsageIndex;
 import io.spring.infrastructure.mybatis.mapper.ArticleMapper;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class MyBatisArticleRepository implements ArticleRepository {
   private ArticleMapper articleMapper;
+  private TagUsageIndex tagUsageIndex;
+  private RelatedArticlesIndex relatedArticlesIndex;
+  private ArticleFilterIndex articleFilterIndex;
+  private ApplicationEventPublisher eventPublisher;
 
-  public MyBatisArticleRepository(ArticleMapper articleMapper) {
+  public MyBatisArticleRepository(
+      ArticleMapper articleMapper,
+      TagUsageIndex tagUsageIndex,
+      RelatedArticlesIndex relatedArticlesIndex,
+      ArticleFilterIndex articleFilterIndex,
+      ApplicationEventPublisher eventPublisher) {
     this.articleMapper = articleMapper;
+    this.tagUsageIndex = tagUsageIndex;
+    this.relatedArticlesIndex = relatedArticlesIndex;
+    this.articleFilterIndex = articleFilterIndex;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
@@ -36,8 +58,19 @@ public class MyBatisArticleRepository implements ArticleRepository {
                     return tag;
                   });
       articleMapper.insertArticleTagRelation(article.getId(), targetTag.getId());
+      articleMapper.incrementTagUsage(targetTag.getId());
+      addTagUsage(tag.getName(), 1);
     }
     articleMapper.insert(article);
+    String articleId = article.getId();
+    List<String> tagNames =
+        article.getTags().stream().map(Tag::getName).collect(Collectors.toList());
+    relatedArticlesIndex.add(articleId, tagNames);
+    RollbackCompensation.register(() -> relatedArticlesIndex.remove(articleId));
+    articleFilterIndex.add(
+        articleId, article.getUserId(), article.getCreatedAt().getMillis(), tagNames);
+    RollbackCompensation.register(() -> articleFilterIndex.remove(articleId));
+    eventPublisher.publishEvent(new ArticleCreatedEvent(articleId, article.getUserId()));
   }
 
   @Override
@@ -51,7 +84,23 @@ public class MyBatisArticleRepository implements ArticleRepository {
   }
 
   @Override
+  @Transactional
   public void remove(Article article) {
+    List<Tag> tags = articleMapper.findTagsOfArticle(article.getId());
+    articleMapper.decrementTagUsageOfArticle(article.getId());
+    articleMapper.deleteArticleTagRelations(article.getId());
     articleMapper.delete(article.getId());
+    tags.forEach(tag -> addTagUsage(tag.getName(), -1));
+    List<String> tagNames = tags.stream().map(Tag::getName).collect(Collectors.toList());
+    relatedArticlesIndex.remove(article.getId());
+    RollbackCompensation.register(() -> relatedArticlesIndex.add(article.getId(), tagNames));
+    articleFilterIndex.remove(article.getId());
+    RollbackCompensation.register(() -> articleFilterIndex.restore(article.getId()));
+    eventPublisher.publishEvent(new ArticleDeletedEvent(article.getId()));
+  }
+
+  private void addTagUsage(String tag, long delta) {
+    tagUsageIndex.add(tag, delta);
+    RollbackCompensation.register(() -> tagUsageIndex.add(tag, -delta));
   }
 }
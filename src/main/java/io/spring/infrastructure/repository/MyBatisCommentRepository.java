@@ -2,23 +2,30 @@ package io.spring.infrastructure.repository;
 
 import io.spring.core.comment.Comment;
 import io.spring.core.comment.CommentRepository;
+import io.spring.core.event.CommentAddedEvent;
 import io.spring.infrastructure.mybatis.mapper.CommentMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MyBatisCommentRepository implements CommentRepository {
   private CommentMapper commentMapper;
+  private ApplicationEventPublisher eventPublisher;
 
   @Autowired
-  public MyBatisCommentRepository(CommentMapper commentMapper) {
+  public MyBatisCommentRepository(
+      CommentMapper commentMapper, ApplicationEventPublisher eventPublisher) {
     this.commentMapper = commentMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public void save(Comment comment) {
     commentMapper.insert(comment);
+    eventPublisher.publishEvent(
+        new CommentAddedEvent(comment.getId(), comment.getArticleId(), comment.getUserId()));
   }
 
   @Override
@@ -3,6 +3,9 @@ package io.spring.infrastructure.repository;
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.ProfileVersions;
+import io.spring.infrastructure.memory.RollbackCompensation;
 import io.spring.infrastructure.mybatis.mapper.UserMapper;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,10 +14,15 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class MyBatisUserRepository implements UserRepository {
   private final UserMapper userMapper;
+  private final FollowGraph followGraph;
+  private final ProfileVersions profileVersions;
 
   @Autowired
-  public MyBatisUserRepository(UserMapper userMapper) {
+  public MyBatisUserRepository(
+      UserMapper userMapper, FollowGraph followGraph, ProfileVersions profileVersions) {
     this.userMapper = userMapper;
+    this.followGraph = followGraph;
+    this.profileVersions = profileVersions;
   }
 
   @Override
@@ -23,6 +31,7 @@ public class MyBatisUserRepository implements UserRepository {
       userMapper.insert(user);
     } else {
       userMapper.update(user);
+      profileVersions.bump(user.getId());
     }
   }
 
@@ -45,6 +54,11 @@ public class MyBatisUserRepository implements UserRepository {
   public void saveRelation(FollowRelation followRelation) {
     if (!findRelation(followRelation.getUserId(), followRelation.getTargetId()).isPresent()) {
       userMapper.saveRelation(followRelation);
+      String userId = followRelation.getUserId();
+      String targetId = followRelation.getTargetId();
+      if (followGraph.follow(userId, targetId)) {
+        RollbackCompensation.register(() -> followGraph.unfollow(userId, targetId));
+      }
     }
   }
 
@@ -56,5 +70,10 @@ public class MyBatisUserRepository implements UserRepository {
   @Override
   public void removeRelation(FollowRelation followRelation) {
     userMapper.deleteRelation(followRelation);
+    String userId = followRelation.getUserId();
+    String targetId = followRelation.getTargetId();
+    if (followGraph.unfollow(userId, targetId)) {
+      RollbackCompensation.register(() -> followGraph.follow(userId, targetId));
+    }
   }
 }
@@ -0,0 +1,50 @@
+package io.spring.infrastructure.service;
+
+/**
+ * Additive-increase, multiplicative-decrease concurrency limit. A completion slower than the
+ * target, or one that failed because the database was overloaded, shrinks the limit by {@code
+ * backoff}; a fast completion while at least half the limit is in use grows it by one per limit's
+ * worth of completions. Admission beyond the limit is refused rather than queued.
+ */
+class AdaptiveLimiter {
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetNanos;
+  private final double backoff;
+  private double limit;
+  private int inFlight;
+
+  AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, long targetNanos, double backoff) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.targetNanos = targetNanos;
+    this.backoff = backoff;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  synchronized boolean tryAcquire() {
+    if (inFlight >= (int) limit) {
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  synchronized void release(long latencyNanos, boolean overloaded) {
+    boolean utilised = inFlight * 2 >= limit;
+    inFlight--;
+    if (overloaded || latencyNanos > targetNanos) {
+      limit = Math.max(minLimit, limit * backoff);
+    } else if (utilised) {
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+
+  synchronized int limit() {
+    return (int) limit;
+  }
+
+  synchronized int inFlight() {
+    return inFlight;
+  }
+}
@@ -0,0 +1,14 @@
+package io.spring.infrastructure.service;
+
+import lombok.Getter;
+
+/** Work refused up front because the read path is at its concurrency limit. */
+@Getter
+public class OverloadedException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public OverloadedException(long retryAfterSeconds) {
+    super("server is at capacity, retry in " + retryAfterSeconds + "s");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -0,0 +1,105 @@
+package io.spring.infrastructure.service;
+
+import io.spring.infrastructure.mybatis.StatementCountingInterceptor;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs independent read queries side by side on a small bounded pool. A saturated pool makes the
+ * caller run the query itself, and a caller inside a transaction always runs inline so the query
+ * sees the same connection and uncommitted rows. Statements a forked query prepares are counted
+ * for the caller by {@link StatementCountingInterceptor}.
+ */
+@Component
+public class QueryFanOut implements DisposableBean {
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+
+  public QueryFanOut(
+      @Value("${query.fan-out.threads:8}") int threads,
+      @Value("${query.fan-out.queue:64}") int queue,
+      @Value("${query.fan-out.timeout-ms:3000}") long timeoutMillis) {
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queue),
+            new CustomizableThreadFactory("query-fan-out-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  public <T> Forked<T> fork(Supplier<T> query) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      CompletableFuture<T> future = new CompletableFuture<>();
+      try {
+        future.complete(query.get());
+      } catch (RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+      return new Forked<>(future);
+    }
+    return new Forked<>(
+        CompletableFuture.supplyAsync(
+            StatementCountingInterceptor.chargingCaller(query), executor));
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  public class Forked<T> {
+    private final CompletableFuture<T> future;
+
+    private Forked(CompletableFuture<T> future) {
+      this.future = future;
+    }
+
+    /** Waits for the query, rethrowing its own exception rather than a wrapper. */
+    public T join() {
+      try {
+        return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        future.cancel(true);
+        throw new QueryTimeoutException("query did not finish in " + timeoutMillis + "ms", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        future.cancel(true);
+        throw new IllegalStateException(e);
+      } catch (ExecutionException | CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+      }
+    }
+
+    /**
+     * Gives up on the query when the caller fails before joining it. A query still waiting for a
+     * thread is skipped; one already running finishes and its result is dropped.
+     */
+    public void cancel() {
+      future.cancel(true);
+    }
+  }
+}
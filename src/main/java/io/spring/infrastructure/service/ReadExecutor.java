@@ -0,0 +1,79 @@
+package io.spring.infrastructure.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the read endpoints' queries off the servlet threads, on a bounded pool behind an {@link
+ * AdaptiveLimiter}. A request over the limit, or one the full pool cannot queue, fails at once
+ * with {@link OverloadedException} instead of holding a Tomcat thread while SQLite is busy, so
+ * the connector keeps accepting and health checks keep answering.
+ */
+@Component
+public class ReadExecutor implements DisposableBean {
+  private final ThreadPoolExecutor executor;
+  private final AdaptiveLimiter limiter;
+  private final long retryAfterSeconds;
+
+  public ReadExecutor(
+      @Value("${read.executor.threads:8}") int threads,
+      @Value("${read.executor.queue:64}") int queue,
+      @Value("${read.limit.initial:16}") int initialLimit,
+      @Value("${read.limit.max:64}") int maxLimit,
+      @Value("${read.limit.latency-target-ms:250}") long targetMillis,
+      @Value("${read.limit.retry-after-seconds:1}") long retryAfterSeconds) {
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queue),
+            new CustomizableThreadFactory("read-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+    this.limiter =
+        new AdaptiveLimiter(
+            initialLimit, 1, maxLimit, TimeUnit.MILLISECONDS.toNanos(targetMillis), 0.9);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public <T> CompletableFuture<T> submit(Supplier<T> read) {
+    if (!limiter.tryAcquire()) {
+      return CompletableFuture.failedFuture(new OverloadedException(retryAfterSeconds));
+    }
+    long start = System.nanoTime();
+    try {
+      return CompletableFuture.supplyAsync(read, executor)
+          .whenComplete(
+              (result, e) -> limiter.release(System.nanoTime() - start, isOverload(e)));
+    } catch (RejectedExecutionException e) {
+      limiter.release(System.nanoTime() - start, true);
+      return CompletableFuture.failedFuture(new OverloadedException(retryAfterSeconds));
+    }
+  }
+
+  public int limit() {
+    return limiter.limit();
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private static boolean isOverload(Throwable e) {
+    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+    return cause instanceof TransientDataAccessException;
+  }
+}
@@ -0,0 +1,105 @@
+package io.spring.infrastructure.threads;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Hands out at most {@code permits} connections at a time, holding a permit from {@code
+ * getConnection} until the connection is closed. With a thread per request the thread pool capped
+ * how many requests reached the database; with virtual threads this semaphore does, so waiting
+ * requests park cheaply instead of piling onto the pool or pinning carriers inside the driver.
+ */
+public class PermitLimitedDataSource extends DelegatingDataSource {
+  private final Semaphore permits;
+  private final long timeoutMillis;
+
+  public PermitLimitedDataSource(DataSource target, int permits, long timeoutMillis) {
+    super(target);
+    this.permits = new Semaphore(permits, true);
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releaseOnClose(super.getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releaseOnClose(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(
+            "no connection permit within " + timeoutMillis + "ms");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("interrupted waiting for a connection permit", e);
+    }
+  }
+
+  /** Wraps {@code connection} so its first close returns the permit taken for it. */
+  private Connection releaseOnClose(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "equals":
+                  return proxy == args[0];
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "close":
+                  if (released.compareAndSet(false, true)) {
+                    try {
+                      return invoke(connection, method, args);
+                    } finally {
+                      permits.release();
+                    }
+                  }
+                  return null;
+                default:
+                  return invoke(connection, method, args);
+              }
+            });
+  }
+
+  private static Object invoke(Connection connection, Method method, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(connection, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
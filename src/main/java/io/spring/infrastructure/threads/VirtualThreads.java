@@ -0,0 +1,30 @@
+package io.spring.infrastructure.threads;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reaches the JDK 21 virtual thread API reflectively, so the code still compiles for Java 17 and
+ * only the opt-in mode needs a JDK 21 runtime.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  /** An executor starting one virtual thread per task, named {@code prefix} and a counter. */
+  public static ExecutorService newPerTaskExecutor(String prefix) {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+      ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+      Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      return (ExecutorService) perTask.invoke(null, factory);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "virtual threads need a JDK 21 runtime, found " + Runtime.version(), e);
+    }
+  }
+}
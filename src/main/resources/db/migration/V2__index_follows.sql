@@ -0,0 +1 @@
+create index follows_user_follow on follows(user_id, follow_id);
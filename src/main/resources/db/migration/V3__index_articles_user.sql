@@ -0,0 +1 @@
+create index articles_user_created_at on articles(user_id, created_at);
@@ -0,0 +1,9 @@
+create table tag_usage (
+  tag_id varchar(255) primary key,
+  usage_count integer not null default 0
+);
+
+delete from article_tags where article_id not in (select id from articles);
+
+insert into tag_usage (tag_id, usage_count)
+select tag_id, count(1) from article_tags group by tag_id;
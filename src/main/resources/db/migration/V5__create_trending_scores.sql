@@ -0,0 +1,5 @@
+create table trending_scores (
+  article_id varchar(255) primary key,
+  score double not null,
+  computed_at integer not null
+);
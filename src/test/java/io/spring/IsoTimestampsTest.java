@@ -0,0 +1,43 @@
+package io.spring;
+
+import java.util.Random;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IsoTimestampsTest {
+  private static final DateTimeFormatter JODA = ISODateTimeFormat.dateTime().withZoneUTC();
+
+  @Test
+  public void should_print_like_joda_across_the_four_digit_years() {
+    long[] edges = {
+      0L, -1L, 951_782_400_000L, 4_107_542_400_000L, -62_167_219_200_000L, 253_402_300_799_999L
+    };
+    for (long millis : edges) {
+      DateTime value = new DateTime(millis);
+      Assertions.assertEquals(JODA.print(value), IsoTimestamps.format(value));
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      long millis = (long) ((random.nextDouble() * 2 - 1) * 2.5e14);
+      DateTime value = new DateTime(millis, DateTimeZone.forOffsetHours(random.nextInt(12)));
+      Assertions.assertEquals(JODA.print(value), IsoTimestamps.format(value));
+    }
+  }
+
+  @Test
+  public void should_fall_back_outside_the_fast_path() {
+    DateTime farFuture = new DateTime(253_402_300_800_000L);
+    DateTime julian = new DateTime(-20_000_000_000_000L, GJChronology.getInstance());
+
+    Assertions.assertFalse(IsoTimestamps.fastPath(farFuture));
+    Assertions.assertFalse(IsoTimestamps.fastPath(julian));
+    Assertions.assertEquals(JODA.print(farFuture), IsoTimestamps.format(farFuture));
+    Assertions.assertEquals(JODA.print(julian), IsoTimestamps.format(julian));
+    Assertions.assertNull(IsoTimestamps.format(null));
+  }
+}
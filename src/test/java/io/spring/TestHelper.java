@@ -1,11 +1,13 @@
 package io.spring;
 
+import io.spring.application.ArticleQueryService;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ProfileData;
 import io.spring.core.article.Article;
 import io.spring.core.user.User;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import org.joda.time.DateTime;
 
 public class TestHelper {
@@ -39,4 +41,13 @@ public class TestHelper {
         Arrays.asList("joda"),
         new ProfileData(user.getId(), user.getUsername(), user.getBio(), user.getImage(), false));
   }
+
+  /** The slug list one over {@link ArticleQueryService#MAX_SLUGS}. */
+  public static List<String> tooManySlugs() {
+    List<String> slugs = new ArrayList<>();
+    for (int i = 0; i <= ArticleQueryService.MAX_SLUGS; i++) {
+      slugs.add("slug-" + i);
+    }
+    return slugs;
+  }
 }
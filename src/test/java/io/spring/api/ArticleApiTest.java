@@ -5,6 +5,8 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,17 +15,22 @@ import io.spring.JacksonCustomizations;
 import io.spring.TestHelper;
 import io.spring.api.security.WebSecurityConfig;
 import io.spring.application.ArticleQueryService;
+import io.spring.application.ResourceVersionQueryService;
 import io.spring.application.article.ArticleCommandService;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ProfileData;
+import io.spring.application.data.ResourceVersion;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
 import io.spring.core.user.User;
+import io.spring.infrastructure.service.OverloadedException;
+import io.spring.infrastructure.service.ReadExecutor;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.joda.time.DateTime;
 import org.joda.time.format.ISODateTimeFormat;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,11 +38,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest({ArticleApi.class})
-@Import({WebSecurityConfig.class, JacksonCustomizations.class})
+@Import({WebSecurityConfig.class, JacksonCustomizations.class, ReadExecutor.class})
 public class ArticleApiTest extends TestWithCurrentUser {
   @Autowired private MockMvc mvc;
 
@@ -45,6 +53,10 @@ public class ArticleApiTest extends TestWithCurrentUser {
 
   @MockBean ArticleCommandService articleCommandService;
 
+  @MockBean private ResourceVersionQueryService resourceVersionQueryService;
+
+  @SpyBean private ReadExecutor readExecutor;
+
   @Override
   @BeforeEach
   public void setUp() throws Exception {
@@ -69,6 +81,7 @@ public class ArticleApiTest extends TestWithCurrentUser {
     when(articleQueryService.findBySlug(eq(slug), eq(null))).thenReturn(Optional.of(articleData));
 
     RestAssuredMockMvc.when()
+        .async()
         .get("/articles/{slug}", slug)
         .then()
         .statusCode(200)
@@ -77,10 +90,65 @@ public class ArticleApiTest extends TestWithCurrentUser {
         .body("article.createdAt", equalTo(ISODateTimeFormat.dateTime().withZoneUTC().print(time)));
   }
 
+  @Test
+  public void should_answer_not_modified_when_etag_matches() throws Exception {
+    String slug = "test-new-article";
+    when(resourceVersionQueryService.article(eq(slug), eq(null)))
+        .thenReturn(Optional.of(new ResourceVersion("\"v1\"", 1000L)));
+
+    given()
+        .header("If-None-Match", "\"v1\"")
+        .when()
+        .async()
+        .get("/articles/{slug}", slug)
+        .then()
+        .statusCode(304)
+        .header("ETag", "\"v1\"")
+        .header("Cache-Control", "no-cache, public");
+
+    verify(articleQueryService, never()).findBySlug(any(), any());
+  }
+
+  @Test
+  public void should_send_validators_with_the_article() throws Exception {
+    String slug = "test-new-article";
+    Article article =
+        new Article("Test New Article", "Desc", "Body", Arrays.asList("java"), user.getId());
+    when(articleQueryService.findBySlug(eq(slug), eq(null)))
+        .thenReturn(Optional.of(TestHelper.getArticleDataFromArticleAndUser(article, user)));
+    when(resourceVersionQueryService.article(eq(slug), eq(null)))
+        .thenReturn(Optional.of(new ResourceVersion("\"v2\"", 1000L)));
+
+    given()
+        .header("If-None-Match", "\"v1\"")
+        .when()
+        .async()
+        .get("/articles/{slug}", slug)
+        .then()
+        .statusCode(200)
+        .header("ETag", "\"v2\"")
+        .header("Last-Modified", "Thu, 01 Jan 1970 00:00:01 GMT")
+        .header("Cache-Control", "no-cache, public");
+  }
+
+  @Test
+  public void should_ask_to_retry_later_when_reads_are_overloaded() throws Exception {
+    doReturn(CompletableFuture.failedFuture(new OverloadedException(3)))
+        .when(readExecutor)
+        .submit(any());
+
+    RestAssuredMockMvc.when()
+        .async()
+        .get("/articles/{slug}", "test-new-article")
+        .then()
+        .statusCode(503)
+        .header("Retry-After", "3");
+  }
+
   @Test
   public void should_404_if_article_not_found() throws Exception {
     when(articleQueryService.findBySlug(anyString(), any())).thenReturn(Optional.empty());
-    RestAssuredMockMvc.when().get("/articles/not-exists").then().statusCode(404);
+    RestAssuredMockMvc.when().async().get("/articles/not-exists").then().statusCode(404);
   }
 
   @Test
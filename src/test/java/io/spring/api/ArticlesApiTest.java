@@ -10,16 +10,20 @@ import static org.mockito.Mockito.when;
 
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.spring.JacksonCustomizations;
+import io.spring.TestHelper;
 import io.spring.api.security.WebSecurityConfig;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.article.ArticleCommandService;
 import io.spring.application.data.ArticleData;
 import io.spring.application.data.ProfileData;
 import io.spring.core.article.Article;
+import io.spring.infrastructure.service.ReadExecutor;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import javax.validation.ConstraintViolationException;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,7 +34,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest({ArticlesApi.class})
-@Import({WebSecurityConfig.class, JacksonCustomizations.class})
+@Import({WebSecurityConfig.class, JacksonCustomizations.class, ReadExecutor.class})
 public class ArticlesApiTest extends TestWithCurrentUser {
   @Autowired private MockMvc mvc;
 
@@ -153,6 +157,41 @@ public class ArticlesApiTest extends TestWithCurrentUser {
         .statusCode(422);
   }
 
+  @Test
+  public void should_get_articles_by_slugs() throws Exception {
+    ArticleData first = TestHelper.articleDataFixture("1", user);
+    ArticleData second = TestHelper.articleDataFixture("2", user);
+    when(articleQueryService.findBySlugs(eq(asList("title-2", "title-1")), eq(null)))
+        .thenReturn(asList(second, first));
+
+    given()
+        .queryParam("slugs", "title-2,title-1")
+        .when()
+        .async()
+        .get("/articles")
+        .then()
+        .statusCode(200)
+        .body("articlesCount", equalTo(2))
+        .body("articles[0].slug", equalTo("title-2"))
+        .body("articles[1].slug", equalTo("title-1"));
+  }
+
+  @Test
+  public void should_reject_more_slugs_than_the_maximum() throws Exception {
+    when(articleQueryService.findBySlugs(any(), any()))
+        .thenThrow(
+            new ConstraintViolationException(
+                "slugs: size must be between 0 and 100", Collections.emptySet()));
+
+    given()
+        .queryParam("slugs", String.join(",", TestHelper.tooManySlugs()))
+        .when()
+        .async()
+        .get("/articles")
+        .then()
+        .statusCode(422);
+  }
+
   private HashMap<String, Object> prepareParam(
       final String title, final String description, final String body, final List<String> tagList) {
     return new HashMap<String, Object>() {
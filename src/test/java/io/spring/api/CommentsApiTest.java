@@ -11,6 +11,7 @@ import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
 import io.spring.application.CommentQueryService;
+import io.spring.application.ResourceVersionQueryService;
 import io.spring.application.data.CommentData;
 import io.spring.application.data.ProfileData;
 import io.spring.core.article.Article;
@@ -18,6 +19,7 @@ import io.spring.core.article.ArticleRepository;
 import io.spring.core.comment.Comment;
 import io.spring.core.comment.CommentRepository;
 import io.spring.core.user.User;
+import io.spring.infrastructure.service.ReadExecutor;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,7 +33,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(CommentsApi.class)
-@Import({WebSecurityConfig.class, JacksonCustomizations.class})
+@Import({WebSecurityConfig.class, JacksonCustomizations.class, ReadExecutor.class})
 public class CommentsApiTest extends TestWithCurrentUser {
 
   @MockBean private ArticleRepository articleRepository;
@@ -39,6 +41,8 @@ public class CommentsApiTest extends TestWithCurrentUser {
   @MockBean private CommentRepository commentRepository;
   @MockBean private CommentQueryService commentQueryService;
 
+  @MockBean private ResourceVersionQueryService resourceVersionQueryService;
+
   private Article article;
   private CommentData commentData;
   private Comment comment;
@@ -121,6 +125,7 @@ public class CommentsApiTest extends TestWithCurrentUser {
     when(commentQueryService.findByArticleId(anyString(), eq(null)))
         .thenReturn(Arrays.asList(commentData));
     RestAssuredMockMvc.when()
+        .async()
         .get("/articles/{slug}/comments", article.getSlug())
         .prettyPeek()
         .then()
@@ -14,6 +14,7 @@ import io.spring.application.Page;
 import io.spring.application.article.ArticleCommandService;
 import io.spring.application.data.ArticleDataList;
 import io.spring.core.article.ArticleRepository;
+import io.spring.infrastructure.service.ReadExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,7 +24,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(ArticlesApi.class)
-@Import({WebSecurityConfig.class, JacksonCustomizations.class})
+@Import({WebSecurityConfig.class, JacksonCustomizations.class, ReadExecutor.class})
 public class ListArticleApiTest extends TestWithCurrentUser {
   @MockBean private ArticleRepository articleRepository;
 
@@ -48,7 +49,7 @@ public class ListArticleApiTest extends TestWithCurrentUser {
     when(articleQueryService.findRecentArticles(
             eq(null), eq(null), eq(null), eq(new Page(0, 20)), eq(null)))
         .thenReturn(articleDataList);
-    RestAssuredMockMvc.when().get("/articles").prettyPeek().then().statusCode(200);
+    RestAssuredMockMvc.when().async().get("/articles").prettyPeek().then().statusCode(200);
   }
 
   @Test
@@ -67,6 +68,7 @@ public class ListArticleApiTest extends TestWithCurrentUser {
     given()
         .header("Authorization", "Token " + token)
         .when()
+        .async()
         .get("/articles/feed")
         .prettyPeek()
         .then()
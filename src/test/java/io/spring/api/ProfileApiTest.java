@@ -10,6 +10,7 @@ import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import io.spring.JacksonCustomizations;
 import io.spring.api.security.WebSecurityConfig;
 import io.spring.application.ProfileQueryService;
+import io.spring.application.ResourceVersionQueryService;
 import io.spring.application.data.ProfileData;
 import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
@@ -31,6 +32,8 @@ public class ProfileApiTest extends TestWithCurrentUser {
 
   @MockBean private ProfileQueryService profileQueryService;
 
+  @MockBean private ResourceVersionQueryService resourceVersionQueryService;
+
   private ProfileData profileData;
 
   @BeforeEach
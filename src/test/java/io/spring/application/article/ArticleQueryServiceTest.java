@@ -1,5 +1,7 @@
 package io.spring.application.article;
 
+import io.spring.TestHelper;
+import io.spring.application.ArticleFields;
 import io.spring.application.ArticleQueryService;
 import io.spring.application.CursorPageParameter;
 import io.spring.application.CursorPager;
@@ -16,23 +18,49 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.ArticleOrdinals;
+import io.spring.infrastructure.memory.FavoriteCounters;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.FollowGraphRelationshipQueryService;
+import io.spring.infrastructure.memory.ProfileVersions;
+import io.spring.infrastructure.memory.RelatedArticlesIndex;
+import io.spring.infrastructure.memory.TagUsageIndex;
+import io.spring.infrastructure.memory.TrendingScores;
 import io.spring.infrastructure.repository.MyBatisArticleFavoriteRepository;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
+import io.spring.infrastructure.service.QueryFanOut;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import javax.validation.ConstraintViolationException;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.context.annotation.Import;
 
 @Import({
   ArticleQueryService.class,
   MyBatisUserRepository.class,
   MyBatisArticleRepository.class,
-  MyBatisArticleFavoriteRepository.class
+  MyBatisArticleFavoriteRepository.class,
+  FollowGraph.class,
+  ProfileVersions.class,
+  FollowGraphRelationshipQueryService.class,
+  FavoriteCounters.class,
+  QueryFanOut.class,
+  TagUsageIndex.class,
+  TrendingScores.class,
+  RelatedArticlesIndex.class,
+  ArticleOrdinals.class,
+  ArticleFilterIndex.class,
+  ValidationAutoConfiguration.class
 })
 public class ArticleQueryServiceTest extends DbTestBase {
   @Autowired private ArticleQueryService queryService;
@@ -43,6 +71,8 @@ public class ArticleQueryServiceTest extends DbTestBase {
 
   @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
 
+  @Autowired private TrendingScores trendingScores;
+
   private User user;
   private Article article;
 
@@ -227,4 +257,99 @@ public class ArticleQueryServiceTest extends DbTestBase {
     ArticleData articleData = anotherUserFeed.getArticleDatas().get(0);
     Assertions.assertTrue(articleData.getProfileData().isFollowing());
   }
+
+  @Test
+  public void should_list_trending_articles_by_score() {
+    Article anotherArticle =
+        new Article("new article", "desc", "body", Arrays.asList("test"), user.getId());
+    articleRepository.save(anotherArticle);
+    trendingScores.record(article.getId(), 1);
+    trendingScores.record(anotherArticle.getId(), 2);
+    try {
+      ArticleDataList trending = queryService.findTrending(new Page(), user);
+      Assertions.assertEquals(2, trending.getCount());
+      Assertions.assertEquals(anotherArticle.getId(), trending.getArticleDatas().get(0).getId());
+      Assertions.assertEquals(article.getId(), trending.getArticleDatas().get(1).getId());
+    } finally {
+      trendingScores.remove(article.getId());
+      trendingScores.remove(anotherArticle.getId());
+    }
+  }
+
+  @Test
+  public void should_find_articles_sharing_tags() {
+    Article related =
+        new Article("related", "desc", "body", Arrays.asList("java", "jvm"), user.getId());
+    Article unrelated = new Article("unrelated", "desc", "body", Arrays.asList("go"), user.getId());
+    articleRepository.save(related);
+    articleRepository.save(unrelated);
+
+    List<ArticleData> articles = queryService.findRelated(article.getSlug(), 5, user);
+    Assertions.assertEquals(1, articles.size());
+    Assertions.assertEquals(related.getId(), articles.get(0).getId());
+    Assertions.assertTrue(queryService.findRelated("missing", 5, user).isEmpty());
+  }
+
+  @Test
+  public void should_fetch_articles_by_ids_in_one_batch() {
+    Article anotherArticle =
+        new Article("another", "desc", "body", Arrays.asList("test"), user.getId());
+    articleRepository.save(anotherArticle);
+    articleFavoriteRepository.save(new ArticleFavorite(anotherArticle.getId(), user.getId()));
+
+    Map<String, ArticleData> articles =
+        queryService.findByIds(
+            Arrays.asList(article.getId(), anotherArticle.getId(), "missing"), user);
+    Assertions.assertEquals(2, articles.size());
+    Assertions.assertFalse(articles.get(article.getId()).isFavorited());
+    Assertions.assertTrue(articles.get(anotherArticle.getId()).isFavorited());
+    Assertions.assertEquals(1, articles.get(anotherArticle.getId()).getFavoritesCount());
+  }
+
+  @Test
+  public void should_fetch_articles_by_slugs_in_requested_order() {
+    Article anotherArticle =
+        new Article("another", "desc", "body", Arrays.asList("test"), user.getId());
+    articleRepository.save(anotherArticle);
+    articleFavoriteRepository.save(new ArticleFavorite(anotherArticle.getId(), user.getId()));
+
+    List<ArticleData> articles =
+        queryService.findBySlugs(
+            Arrays.asList(
+                anotherArticle.getSlug(), "missing", article.getSlug(), anotherArticle.getSlug()),
+            user);
+    Assertions.assertEquals(2, articles.size());
+    Assertions.assertEquals(anotherArticle.getId(), articles.get(0).getId());
+    Assertions.assertEquals(article.getId(), articles.get(1).getId());
+    Assertions.assertTrue(articles.get(0).isFavorited());
+    Assertions.assertTrue(queryService.findBySlugs(new ArrayList<>(), user).isEmpty());
+  }
+
+  @Test
+  public void should_reject_more_slugs_than_the_maximum() {
+    Assertions.assertThrows(
+        ConstraintViolationException.class,
+        () -> queryService.findBySlugs(TestHelper.tooManySlugs(), user));
+  }
+
+  @Test
+  public void should_only_load_selected_article_fields() {
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), user.getId()));
+
+    CursorPager<ArticleData> articles =
+        queryService.findRecentArticlesWithCursor(
+            null,
+            null,
+            null,
+            new CursorPageParameter<>(null, 20, Direction.NEXT),
+            user,
+            new ArticleFields(false, false, false, true, false));
+    ArticleData fetched = articles.getData().get(0);
+    Assertions.assertEquals(article.getSlug(), fetched.getSlug());
+    Assertions.assertEquals(1, fetched.getFavoritesCount());
+    Assertions.assertNull(fetched.getBody());
+    Assertions.assertNull(fetched.getProfileData());
+    Assertions.assertFalse(fetched.isFavorited());
+    Assertions.assertTrue(fetched.getTagList() == null || fetched.getTagList().isEmpty());
+  }
 }
@@ -0,0 +1,115 @@
+package io.spring.application.article;
+
+import io.spring.application.ResourceVersionQueryService;
+import io.spring.application.data.ResourceVersion;
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.comment.Comment;
+import io.spring.core.comment.CommentRepository;
+import io.spring.core.favorite.ArticleFavorite;
+import io.spring.core.favorite.ArticleFavoriteRepository;
+import io.spring.core.user.FollowRelation;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.ArticleOrdinals;
+import io.spring.infrastructure.memory.FavoriteCounters;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.ProfileVersions;
+import io.spring.infrastructure.memory.RelatedArticlesIndex;
+import io.spring.infrastructure.memory.TagUsageIndex;
+import io.spring.infrastructure.repository.MyBatisArticleFavoriteRepository;
+import io.spring.infrastructure.repository.MyBatisArticleRepository;
+import io.spring.infrastructure.repository.MyBatisCommentRepository;
+import io.spring.infrastructure.repository.MyBatisUserRepository;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({
+  ResourceVersionQueryService.class,
+  MyBatisArticleRepository.class,
+  MyBatisUserRepository.class,
+  MyBatisArticleFavoriteRepository.class,
+  MyBatisCommentRepository.class,
+  FavoriteCounters.class,
+  FollowGraph.class,
+  ProfileVersions.class,
+  TagUsageIndex.class,
+  RelatedArticlesIndex.class,
+  ArticleOrdinals.class,
+  ArticleFilterIndex.class
+})
+public class ResourceVersionQueryServiceTest extends DbTestBase {
+  @Autowired private ResourceVersionQueryService resourceVersionQueryService;
+
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
+
+  @Autowired private CommentRepository commentRepository;
+
+  private User user;
+  private Article article;
+
+  @BeforeEach
+  public void setUp() {
+    user = new User("aisensiy@gmail.com", "aisensiy", "123", "", "");
+    userRepository.save(user);
+    article = new Article("test", "desc", "body", Arrays.asList("java"), user.getId());
+    articleRepository.save(article);
+  }
+
+  @Test
+  public void should_change_article_etag_with_favorites_and_profile() {
+    String initial = articleEtag(null);
+    Assertions.assertEquals(initial, articleEtag(null));
+    Assertions.assertTrue(
+        resourceVersionQueryService.article(article.getSlug(), null).get().getLastModified() > 0);
+
+    User reader = new User("reader@gmail.com", "reader", "123", "", "");
+    userRepository.save(reader);
+    String beforeFavorite = articleEtag(reader);
+    Assertions.assertNotEquals(initial, beforeFavorite);
+
+    articleFavoriteRepository.save(new ArticleFavorite(article.getId(), reader.getId()));
+    String afterFavorite = articleEtag(reader);
+    Assertions.assertNotEquals(beforeFavorite, afterFavorite);
+    Assertions.assertNotEquals(initial, articleEtag(null));
+
+    userRepository.saveRelation(new FollowRelation(reader.getId(), user.getId()));
+    Assertions.assertNotEquals(afterFavorite, articleEtag(reader));
+
+    String beforeUpdate = articleEtag(null);
+    user.update("", "", "", "new bio", "");
+    userRepository.save(user);
+    Assertions.assertNotEquals(beforeUpdate, articleEtag(null));
+  }
+
+  @Test
+  public void should_change_comments_etag_when_comment_added() {
+    String initial = resourceVersionQueryService.comments(article.getSlug(), null).get().getEtag();
+    commentRepository.save(new Comment("content", user.getId(), article.getId()));
+    Assertions.assertNotEquals(
+        initial, resourceVersionQueryService.comments(article.getSlug(), null).get().getEtag());
+  }
+
+  @Test
+  public void should_not_version_missing_resources() {
+    Assertions.assertFalse(resourceVersionQueryService.article("missing", null).isPresent());
+    Assertions.assertFalse(resourceVersionQueryService.comments("missing", null).isPresent());
+    Assertions.assertFalse(resourceVersionQueryService.profile("missing", null).isPresent());
+    Assertions.assertTrue(resourceVersionQueryService.tags().isPresent());
+  }
+
+  private String articleEtag(User viewer) {
+    ResourceVersion version = resourceVersionQueryService.article(article.getSlug(), viewer).get();
+    return version.getEtag();
+  }
+}
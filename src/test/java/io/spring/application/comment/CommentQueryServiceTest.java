@@ -1,6 +1,9 @@
 package io.spring.application.comment;
 
 import io.spring.application.CommentQueryService;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager;
+import io.spring.application.CursorPager.Direction;
 import io.spring.application.data.CommentData;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
@@ -10,11 +13,19 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.ArticleOrdinals;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.FollowGraphRelationshipQueryService;
+import io.spring.infrastructure.memory.ProfileVersions;
+import io.spring.infrastructure.memory.RelatedArticlesIndex;
+import io.spring.infrastructure.memory.TagUsageIndex;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import io.spring.infrastructure.repository.MyBatisCommentRepository;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +37,14 @@ import org.springframework.context.annotation.Import;
   MyBatisCommentRepository.class,
   MyBatisUserRepository.class,
   CommentQueryService.class,
-  MyBatisArticleRepository.class
+  MyBatisArticleRepository.class,
+  FollowGraph.class,
+  ProfileVersions.class,
+  FollowGraphRelationshipQueryService.class,
+  TagUsageIndex.class,
+  RelatedArticlesIndex.class,
+  ArticleOrdinals.class,
+  ArticleFilterIndex.class
 })
 public class CommentQueryServiceTest extends DbTestBase {
   @Autowired private CommentRepository commentRepository;
@@ -73,4 +91,37 @@ public class CommentQueryServiceTest extends DbTestBase {
     List<CommentData> comments = commentQueryService.findByArticleId(article.getId(), user);
     Assertions.assertEquals(comments.size(), 2);
   }
+
+  @Test
+  public void should_read_first_comments_of_many_articles_at_once() {
+    Article article1 = new Article("title1", "desc", "body", Arrays.asList("java"), user.getId());
+    Article article2 = new Article("title2", "desc", "body", Arrays.asList("java"), user.getId());
+    Article article3 = new Article("title3", "desc", "body", Arrays.asList("java"), user.getId());
+    articleRepository.save(article1);
+    articleRepository.save(article2);
+    articleRepository.save(article3);
+
+    User user2 = new User("user2@email.com", "user2", "123", "", "");
+    userRepository.save(user2);
+    userRepository.saveRelation(new FollowRelation(user.getId(), user2.getId()));
+
+    for (int i = 0; i < 3; i++) {
+      commentRepository.save(new Comment("a" + i, user2.getId(), article1.getId()));
+    }
+    commentRepository.save(new Comment("b", user.getId(), article2.getId()));
+
+    Map<String, CursorPager<CommentData>> pages =
+        commentQueryService.findByArticleIdsWithCursor(
+            Arrays.asList(article1.getId(), article2.getId(), article3.getId()),
+            user,
+            new CursorPageParameter<>(null, 2, Direction.NEXT));
+
+    CursorPager<CommentData> first = pages.get(article1.getId());
+    Assertions.assertEquals(2, first.getData().size());
+    Assertions.assertTrue(first.hasNext());
+    Assertions.assertTrue(first.getData().get(0).getProfileData().isFollowing());
+    Assertions.assertEquals(1, pages.get(article2.getId()).getData().size());
+    Assertions.assertFalse(pages.get(article2.getId()).hasNext());
+    Assertions.assertTrue(pages.get(article3.getId()).getData().isEmpty());
+  }
 }
@@ -2,17 +2,29 @@ package io.spring.application.profile;
 
 import io.spring.application.ProfileQueryService;
 import io.spring.application.data.ProfileData;
+import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.FollowGraphRelationshipQueryService;
+import io.spring.infrastructure.memory.ProfileVersions;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import({ProfileQueryService.class, MyBatisUserRepository.class})
+@Import({
+  ProfileQueryService.class,
+  MyBatisUserRepository.class,
+  FollowGraph.class,
+  ProfileVersions.class,
+  FollowGraphRelationshipQueryService.class
+})
 public class ProfileQueryServiceTest extends DbTestBase {
   @Autowired private ProfileQueryService profileQueryService;
   @Autowired private UserRepository userRepository;
@@ -27,4 +39,23 @@ public class ProfileQueryServiceTest extends DbTestBase {
         profileQueryService.findByUsername(profileUser.getUsername(), currentUser);
     Assertions.assertTrue(optional.isPresent());
   }
+
+  @Test
+  public void should_fetch_profiles_by_ids_in_one_batch() {
+    User currentUser = new User("a@test.com", "a", "123", "", "");
+    User followed = new User("f@test.com", "f", "123", "", "");
+    User other = new User("o@test.com", "o", "123", "", "");
+    userRepository.save(currentUser);
+    userRepository.save(followed);
+    userRepository.save(other);
+    userRepository.saveRelation(new FollowRelation(currentUser.getId(), followed.getId()));
+
+    Map<String, ProfileData> profiles =
+        profileQueryService.findByIds(
+            Arrays.asList(followed.getId(), other.getId(), "missing"), currentUser);
+    Assertions.assertEquals(2, profiles.size());
+    Assertions.assertTrue(profiles.get(followed.getId()).isFollowing());
+    Assertions.assertFalse(profiles.get(other.getId()).isFollowing());
+    Assertions.assertEquals("o", profiles.get(other.getId()).getUsername());
+  }
 }
@@ -4,6 +4,10 @@ import io.spring.application.TagsQueryService;
 import io.spring.core.article.Article;
 import io.spring.core.article.ArticleRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.ArticleOrdinals;
+import io.spring.infrastructure.memory.RelatedArticlesIndex;
+import io.spring.infrastructure.memory.TagUsageIndex;
 import io.spring.infrastructure.repository.MyBatisArticleRepository;
 import java.util.Arrays;
 import org.junit.jupiter.api.Assertions;
@@ -11,7 +15,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import({TagsQueryService.class, MyBatisArticleRepository.class})
+@Import({
+  TagsQueryService.class,
+  MyBatisArticleRepository.class,
+  TagUsageIndex.class,
+  RelatedArticlesIndex.class,
+  ArticleOrdinals.class,
+  ArticleFilterIndex.class
+})
 public class TagsQueryServiceTest extends DbTestBase {
   @Autowired private TagsQueryService tagsQueryService;
 
@@ -22,4 +33,16 @@ public class TagsQueryServiceTest extends DbTestBase {
     articleRepository.save(new Article("test", "test", "test", Arrays.asList("java"), "123"));
     Assertions.assertTrue(tagsQueryService.allTags().contains("java"));
   }
+
+  @Test
+  public void should_get_most_used_tags_first() {
+    Article first = new Article("first", "test", "test", Arrays.asList("java", "spring"), "123");
+    articleRepository.save(first);
+    articleRepository.save(new Article("second", "test", "test", Arrays.asList("spring"), "123"));
+    Assertions.assertEquals(Arrays.asList("spring", "java"), tagsQueryService.topTags(2));
+    Assertions.assertEquals(Arrays.asList("spring"), tagsQueryService.topTags(1));
+
+    articleRepository.remove(first);
+    Assertions.assertEquals(Arrays.asList("spring"), tagsQueryService.topTags(2));
+  }
 }
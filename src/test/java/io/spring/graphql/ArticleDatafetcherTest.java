@@ -0,0 +1,95 @@
+package io.spring.graphql;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.netflix.graphql.dgs.DgsQueryExecutor;
+import com.netflix.graphql.dgs.autoconfig.DgsAutoConfiguration;
+import graphql.ExecutionResult;
+import io.spring.TestHelper;
+import io.spring.application.ArticleQueryService;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.graphql.exception.GraphQLCustomizeExceptionHandler;
+import io.spring.infrastructure.broker.ArticleActivity;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+
+@SpringBootTest(
+    classes = {
+      DgsAutoConfiguration.class,
+      ArticleDatafetcher.class,
+      GraphQLCustomizeExceptionHandler.class
+    })
+@WithAnonymousUser
+public class ArticleDatafetcherTest {
+  @Autowired private DgsQueryExecutor dgsQueryExecutor;
+
+  @MockBean private ArticleQueryService articleQueryService;
+
+  @MockBean private UserRepository userRepository;
+
+  @MockBean private ArticleRepository articleRepository;
+
+  @MockBean private ArticleActivity articleActivity;
+
+  @Test
+  public void should_reject_malformed_trending_cursor() {
+    for (String cursor : Arrays.asList("abc", "-1", "2147483647")) {
+      ExecutionResult result =
+          dgsQueryExecutor.execute(
+              "{ trending(first: 5, after: \"" + cursor + "\") { edges { cursor } } }");
+
+      Assertions.assertEquals(1, result.getErrors().size(), cursor);
+      Object errorType = result.getErrors().get(0).getExtensions().get("errorType");
+      Assertions.assertEquals("BAD_REQUEST", String.valueOf(errorType));
+    }
+    verify(articleQueryService, never()).findTrending(any(), any(), any());
+  }
+
+  @Test
+  public void should_fetch_articles_by_slugs() {
+    User user = new User("john@jacob.com", "johnjacob", "123", "", "");
+    when(articleQueryService.findBySlugs(eq(Arrays.asList("title-2", "title-1")), any(), any()))
+        .thenReturn(
+            Arrays.asList(
+                TestHelper.articleDataFixture("2", user),
+                TestHelper.articleDataFixture("1", user)));
+
+    List<String> slugs =
+        dgsQueryExecutor.executeAndExtractJsonPath(
+            "{ articlesBySlugs(slugs: [\"title-2\", \"title-1\"]) { slug } }",
+            "data.articlesBySlugs[*].slug");
+
+    Assertions.assertEquals(Arrays.asList("title-2", "title-1"), slugs);
+  }
+
+  @Test
+  public void should_reject_more_slugs_than_the_maximum() {
+    when(articleQueryService.findBySlugs(any(), any(), any()))
+        .thenThrow(
+            new ConstraintViolationException(
+                "slugs: size must be between 0 and 100", Collections.emptySet()));
+
+    ExecutionResult result =
+        dgsQueryExecutor.execute(
+            "query($slugs: [String!]!) { articlesBySlugs(slugs: $slugs) { slug } }",
+            Collections.singletonMap("slugs", TestHelper.tooManySlugs()));
+
+    Assertions.assertEquals(1, result.getErrors().size());
+    Object errorType = result.getErrors().get(0).getExtensions().get("errorType");
+    Assertions.assertEquals("BAD_REQUEST", String.valueOf(errorType));
+  }
+}
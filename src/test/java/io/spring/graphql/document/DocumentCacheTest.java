@@ -0,0 +1,87 @@
+package io.spring.graphql.document;
+
+import graphql.Directives;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.graphql.instrumentation.QueryCostInstrumentation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DocumentCacheTest {
+  private static final String SCHEMA =
+      "type Query { articles(first: Int): [Article] } type Article { title: String }";
+
+  private SimpleMeterRegistry meterRegistry;
+  private DocumentCache documentCache;
+  private GraphQL graphQL;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    documentCache = new DocumentCache(2, meterRegistry);
+    graphQL =
+        GraphQL.newGraphQL(
+                new SchemaGenerator()
+                    .makeExecutableSchema(
+                        new SchemaParser().parse(SCHEMA),
+                        RuntimeWiring.newRuntimeWiring().build()))
+            .preparsedDocumentProvider(documentCache)
+            .instrumentation(new QueryCostInstrumentation(5, 10, meterRegistry))
+            .build();
+  }
+
+  @Test
+  public void should_reuse_validated_documents() {
+    Assertions.assertTrue(graphQL.execute("{ articles { title } }").getErrors().isEmpty());
+    Assertions.assertTrue(graphQL.execute("{ articles { title } }").getErrors().isEmpty());
+
+    Assertions.assertEquals(
+        1.0,
+        meterRegistry
+            .counter("graphql.document.cache.requests", "schema", "dgs", "result", "hit")
+            .count());
+    Assertions.assertEquals(0.5, documentCache.hitRatio());
+  }
+
+  @Test
+  public void should_keep_documents_of_each_schema_apart() {
+    GraphQL withDefer =
+        GraphQL.newGraphQL(
+                graphQL
+                    .getGraphQLSchema()
+                    .transform(builder -> builder.additionalDirective(Directives.DeferDirective)))
+            .preparsedDocumentProvider(new DocumentCache("defer", 2, meterRegistry))
+            .build();
+    String deferred = "{ articles { title @defer } }";
+
+    Assertions.assertTrue(withDefer.execute(deferred).getErrors().isEmpty());
+    Assertions.assertFalse(graphQL.execute(deferred).getErrors().isEmpty());
+    Assertions.assertEquals(
+        1.0,
+        meterRegistry
+            .counter("graphql.document.cache.requests", "schema", "defer", "result", "miss")
+            .count());
+  }
+
+  @Test
+  public void should_not_keep_invalid_documents() {
+    Assertions.assertFalse(graphQL.execute("{ articles { missing } }").getErrors().isEmpty());
+    Assertions.assertFalse(graphQL.execute("{ articles { missing } }").getErrors().isEmpty());
+
+    Assertions.assertEquals(0.0, documentCache.hitRatio());
+  }
+
+  @Test
+  public void should_still_enforce_cost_on_cached_documents() {
+    graphQL.execute("{ articles(first: 20) { title } }");
+    ExecutionResult result = graphQL.execute("{ articles(first: 20) { title } }");
+
+    Assertions.assertEquals(0.5, documentCache.hitRatio());
+    Assertions.assertTrue(result.getErrors().get(0).getMessage().contains("cost 40"));
+  }
+}
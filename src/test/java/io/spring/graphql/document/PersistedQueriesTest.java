@@ -0,0 +1,35 @@
+package io.spring.graphql.document;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PersistedQueriesTest {
+
+  @Test
+  public void should_register_queries_only_under_their_own_hash() {
+    PersistedQueries persistedQueries = new PersistedQueries(10);
+    String query = "{ articles { title } }";
+    String hash = QueryHashes.sha256(query);
+
+    Assertions.assertNull(persistedQueries.find(hash));
+    Assertions.assertFalse(persistedQueries.register(QueryHashes.sha256("{ other }"), query));
+    Assertions.assertTrue(persistedQueries.register(hash.toUpperCase(), query));
+    Assertions.assertEquals(query, persistedQueries.find(hash));
+  }
+
+  @Test
+  public void should_evict_the_least_recently_used_query() {
+    PersistedQueries persistedQueries = new PersistedQueries(2);
+    String first = "{ first }";
+    String second = "{ second }";
+    String third = "{ third }";
+    persistedQueries.register(QueryHashes.sha256(first), first);
+    persistedQueries.register(QueryHashes.sha256(second), second);
+    persistedQueries.find(QueryHashes.sha256(first));
+    persistedQueries.register(QueryHashes.sha256(third), third);
+
+    Assertions.assertEquals(first, persistedQueries.find(QueryHashes.sha256(first)));
+    Assertions.assertNull(persistedQueries.find(QueryHashes.sha256(second)));
+    Assertions.assertEquals(third, persistedQueries.find(QueryHashes.sha256(third)));
+  }
+}
@@ -0,0 +1,123 @@
+package io.spring.graphql.document;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+public class PersistedQueryFilterTest {
+  private static final String QUERY = "{ articles { title } }";
+  private static final String HASH = QueryHashes.sha256(QUERY);
+
+  private PersistedQueryFilter filter;
+
+  @BeforeEach
+  public void setUp() {
+    filter = new PersistedQueryFilter(new PersistedQueries(10), "/graphql");
+  }
+
+  @Test
+  public void should_ask_for_the_query_when_the_hash_is_unknown() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request(hashOnly(HASH)), response, chain);
+
+    Assertions.assertNull(chain.getRequest());
+    Assertions.assertEquals(200, response.getStatus());
+    Assertions.assertTrue(response.getContentAsString().contains("PersistedQueryNotFound"));
+    Assertions.assertTrue(response.getContentAsString().contains("PERSISTED_QUERY_NOT_FOUND"));
+  }
+
+  @Test
+  public void should_register_full_requests_and_expand_later_hashes() throws Exception {
+    MockFilterChain register = new MockFilterChain();
+    String full = "{\"query\":\"" + QUERY + "\"," + extensions(HASH) + "}";
+    filter.doFilter(request(full), new MockHttpServletResponse(), register);
+    Assertions.assertEquals(full, body(register));
+
+    MockFilterChain expand = new MockFilterChain();
+    filter.doFilter(request(hashOnly(HASH)), new MockHttpServletResponse(), expand);
+    Assertions.assertTrue(body(expand).contains("\"query\":\"" + QUERY + "\""));
+  }
+
+  @Test
+  public void should_reject_a_hash_that_does_not_match_the_query() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    String mismatched = "{\"query\":\"{ other }\"," + extensions(HASH) + "}";
+
+    filter.doFilter(request(mismatched), response, chain);
+
+    Assertions.assertNull(chain.getRequest());
+    Assertions.assertEquals(400, response.getStatus());
+    Assertions.assertTrue(response.getContentAsString().contains("PERSISTED_QUERY_HASH_MISMATCH"));
+
+    MockFilterChain retry = new MockFilterChain();
+    filter.doFilter(request(hashOnly(HASH)), new MockHttpServletResponse(), retry);
+    Assertions.assertNull(retry.getRequest());
+  }
+
+  @Test
+  public void should_expand_each_operation_of_a_batch() throws Exception {
+    String full = "{\"query\":\"" + QUERY + "\"," + extensions(HASH) + "}";
+    filter.doFilter(request(full), new MockHttpServletResponse(), new MockFilterChain());
+    String unknown = QueryHashes.sha256("{ tags }");
+
+    MockFilterChain chain = new MockFilterChain();
+    String batch = "[" + hashOnly(HASH) + "," + hashOnly(unknown) + "]";
+    filter.doFilter(request(batch), new MockHttpServletResponse(), chain);
+
+    JsonNode operations = new ObjectMapper().readTree(body(chain));
+    Assertions.assertEquals(QUERY, operations.get(0).path("query").asText());
+    Assertions.assertFalse(operations.get(1).has("query"));
+  }
+
+  @Test
+  public void should_reject_a_batch_with_a_mismatched_hash() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    String mismatched = "{\"query\":\"{ other }\"," + extensions(HASH) + "}";
+
+    filter.doFilter(request("[{\"query\":\"{ tags }\"}," + mismatched + "]"), response, chain);
+
+    Assertions.assertNull(chain.getRequest());
+    Assertions.assertEquals(400, response.getStatus());
+  }
+
+  @Test
+  public void should_pass_requests_without_a_hash_through() throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+    String plain = "{\"query\":\"" + QUERY + "\"}";
+
+    filter.doFilter(request(plain), new MockHttpServletResponse(), chain);
+
+    Assertions.assertEquals(plain, body(chain));
+  }
+
+  private static String hashOnly(String hash) {
+    return "{" + extensions(hash) + "}";
+  }
+
+  private static String extensions(String hash) {
+    return "\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"" + hash + "\"}}";
+  }
+
+  private static MockHttpServletRequest request(String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+    request.setServletPath("/graphql");
+    request.setContentType("application/json");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  private static String body(MockFilterChain chain) throws Exception {
+    return StreamUtils.copyToString(chain.getRequest().getInputStream(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,164 @@
+package io.spring.graphql.instrumentation;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.infrastructure.mybatis.StatementCountingInterceptor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ibatis.plugin.Invocation;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class FieldTimingInstrumentationTest {
+  private static final String SCHEMA =
+      "type Query { articles: [Article] }\n"
+          + "type Article { title: String author: String profile: String }";
+
+  private SimpleMeterRegistry meterRegistry;
+  private FieldTimingInstrumentation instrumentation;
+  private StatementCountingInterceptor interceptor;
+  private GraphQL graphQL;
+
+  @BeforeEach
+  public void setUp() {
+    interceptor = new StatementCountingInterceptor();
+    DataFetcher<?> articles =
+        env -> {
+          runStatement(interceptor);
+          runStatement(interceptor);
+          return Arrays.asList(
+              Collections.singletonMap("title", "a"), Collections.singletonMap("title", "b"));
+        };
+    DataFetcher<?> author =
+        env -> {
+          runStatement(interceptor);
+          return "jake";
+        };
+    DataFetcher<?> profile =
+        env ->
+            env.<String, String>getDataLoader("profiles")
+                .load(env.<Map<String, String>>getSource().get("title"));
+    meterRegistry = new SimpleMeterRegistry();
+    instrumentation = new FieldTimingInstrumentation(meterRegistry, true);
+    graphQL =
+        GraphQL.newGraphQL(
+                new SchemaGenerator()
+                    .makeExecutableSchema(
+                        new SchemaParser().parse(SCHEMA),
+                        RuntimeWiring.newRuntimeWiring()
+                            .type("Query", type -> type.dataFetcher("articles", articles))
+                            .type(
+                                "Article",
+                                type ->
+                                    type.dataFetcher("author", author)
+                                        .dataFetcher("profile", profile))
+                            .build()))
+            .instrumentation(instrumentation)
+            .build();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void should_record_latency_and_statements_per_field() {
+    ExecutionResult result = graphQL.execute("{ articles { title author } }");
+
+    Assertions.assertTrue(result.getErrors().isEmpty());
+    Assertions.assertNull(result.getExtensions());
+    Assertions.assertEquals(
+        1, meterRegistry.timer("graphql.field.latency", "field", "Query.articles").count());
+    Assertions.assertEquals(
+        2, meterRegistry.timer("graphql.field.latency", "field", "Article.author").count());
+    Assertions.assertEquals(
+        2.0,
+        meterRegistry.summary("graphql.field.statements", "field", "Query.articles").totalAmount());
+    Assertions.assertEquals(
+        2.0,
+        meterRegistry.summary("graphql.field.statements", "field", "Article.author").totalAmount());
+    Assertions.assertNull(
+        meterRegistry.find("graphql.field.latency").tag("field", "Article.title").timer());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void should_return_tracing_when_the_header_is_present() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(FieldTimingInstrumentation.TRACING_HEADER, "1");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    ExecutionResult result = graphQL.execute("{ articles { title author } }");
+
+    Map<String, Object> tracing = (Map<String, Object>) result.getExtensions().get("tracing");
+    Assertions.assertEquals(4L, tracing.get("statements"));
+    List<Map<String, Object>> resolvers = (List<Map<String, Object>>) tracing.get("resolvers");
+    Assertions.assertEquals(2, resolvers.size());
+    Assertions.assertEquals("/articles/author", resolvers.get(1).get("path"));
+    Assertions.assertEquals(2L, resolvers.get(1).get("count"));
+    Assertions.assertEquals(2L, resolvers.get(1).get("statements"));
+  }
+
+  @Test
+  public void should_charge_data_loader_statements_to_the_batch() {
+    DataLoaderRegistry registry = new DataLoaderRegistry();
+    registry.register(
+        "profiles",
+        DataLoaderFactory.newDataLoader(
+            (List<String> keys) ->
+                CompletableFuture.completedFuture(
+                    instrumentation.recordBatch(
+                        "profiles",
+                        () -> {
+                          runStatement(interceptor);
+                          return keys;
+                        }))));
+
+    ExecutionResult result =
+        graphQL.execute(
+            ExecutionInput.newExecutionInput()
+                .query("{ articles { profile } }")
+                .dataLoaderRegistry(registry));
+
+    Assertions.assertTrue(result.getErrors().isEmpty());
+    Assertions.assertEquals(
+        0.0,
+        meterRegistry
+            .summary("graphql.field.statements", "field", "Article.profile")
+            .totalAmount());
+    Assertions.assertEquals(
+        1, meterRegistry.summary("graphql.dataloader.statements", "loader", "profiles").count());
+    Assertions.assertEquals(
+        1.0,
+        meterRegistry
+            .summary("graphql.dataloader.statements", "loader", "profiles")
+            .totalAmount());
+    Assertions.assertEquals(
+        1, meterRegistry.timer("graphql.dataloader.latency", "loader", "profiles").count());
+  }
+
+  private static void runStatement(StatementCountingInterceptor interceptor) {
+    try {
+      interceptor.intercept(new Invocation("", Object.class.getMethod("toString"), new Object[0]));
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
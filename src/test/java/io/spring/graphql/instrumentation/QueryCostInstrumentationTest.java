@@ -0,0 +1,70 @@
+package io.spring.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QueryCostInstrumentationTest {
+  private static final String SCHEMA =
+      "type Query { articles(first: Int): [Article] }\n"
+          + "type Article { title: String comments(first: Int): [Comment] }\n"
+          + "type Comment { body: String article: Article }";
+
+  private GraphQLSchema schema;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setUp() {
+    schema =
+        new SchemaGenerator()
+            .makeExecutableSchema(
+                new SchemaParser().parse(SCHEMA), RuntimeWiring.newRuntimeWiring().build());
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  public void should_report_cost_multiplied_by_page_sizes() {
+    ExecutionResult result =
+        execute(200, "{ articles(first: 10) { title comments(first: 5) { body } } }");
+
+    Assertions.assertTrue(result.getErrors().isEmpty());
+    Map<?, ?> cost = (Map<?, ?>) result.getExtensions().get("cost");
+    Assertions.assertEquals(120L, cost.get("requested"));
+    Assertions.assertEquals(3, cost.get("depth"));
+  }
+
+  @Test
+  public void should_reject_queries_over_budget() {
+    ExecutionResult result =
+        execute(100, "{ articles(first: 10) { title comments(first: 5) { body } } }");
+
+    Assertions.assertEquals(1, result.getErrors().size());
+    Assertions.assertTrue(result.getErrors().get(0).getMessage().contains("cost 120"));
+    Assertions.assertEquals(
+        1.0, meterRegistry.counter("graphql.query.rejected", "reason", "cost").count());
+  }
+
+  @Test
+  public void should_reject_queries_too_deep() {
+    ExecutionResult result =
+        execute(1000, "{ articles(first: 1) { comments(first: 1) { article { title } } } }");
+
+    Assertions.assertEquals(1, result.getErrors().size());
+    Assertions.assertTrue(result.getErrors().get(0).getMessage().contains("depth 4"));
+  }
+
+  private ExecutionResult execute(long maxCost, String query) {
+    return GraphQL.newGraphQL(schema)
+        .instrumentation(new QueryCostInstrumentation(3, maxCost, meterRegistry))
+        .build()
+        .execute(query);
+  }
+}
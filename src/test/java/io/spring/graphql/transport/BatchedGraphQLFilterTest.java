@@ -0,0 +1,76 @@
+package io.spring.graphql.transport;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.ExecutionResultImpl;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class BatchedGraphQLFilterTest {
+  private GraphQLBatchExecutor batchExecutor;
+  private BatchedGraphQLFilter filter;
+
+  @BeforeEach
+  public void setUp() {
+    batchExecutor = mock(GraphQLBatchExecutor.class);
+    filter = new BatchedGraphQLFilter(batchExecutor, "/graphql", 20);
+  }
+
+  @Test
+  public void should_answer_unknown_persisted_queries_without_executing_them() throws Exception {
+    when(batchExecutor.execute(anyList()))
+        .thenReturn(
+            Collections.singletonList(
+                ExecutionResultImpl.newExecutionResult()
+                    .data(Collections.singletonMap("tags", Collections.emptyList()))
+                    .build()));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    String hashOnly =
+        "{\"extensions\":{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"abc\"}}}";
+
+    filter.doFilter(
+        request("[" + hashOnly + ",{\"query\":\"{ tags }\"}]"), response, new MockFilterChain());
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ExecutionInput.Builder>> inputs = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(batchExecutor).execute(inputs.capture());
+    Assertions.assertEquals(1, inputs.getValue().size());
+    JsonNode results = new ObjectMapper().readTree(response.getContentAsString());
+    Assertions.assertEquals(2, results.size());
+    Assertions.assertEquals(
+        "PERSISTED_QUERY_NOT_FOUND",
+        results.get(0).path("errors").get(0).path("extensions").path("code").asText());
+    Assertions.assertTrue(results.get(1).path("data").has("tags"));
+  }
+
+  @Test
+  public void should_pass_single_operations_through() throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("{\"query\":\"{ tags }\"}"), new MockHttpServletResponse(), chain);
+
+    Assertions.assertNotNull(chain.getRequest());
+    Mockito.verifyNoInteractions(batchExecutor);
+  }
+
+  private static MockHttpServletRequest request(String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+    request.setServletPath("/graphql");
+    request.setContentType("application/json");
+    request.setContent(body.getBytes());
+    return request;
+  }
+}
@@ -0,0 +1,47 @@
+package io.spring.graphql.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class CachedBodyRequestTest {
+
+  @Test
+  public void should_replay_the_body_to_a_read_listener() throws Exception {
+    byte[] body = "{\"query\":\"{ tags }\"}".getBytes(StandardCharsets.UTF_8);
+    CachedBodyRequest request = new CachedBodyRequest(new MockHttpServletRequest(), body);
+    ServletInputStream in = request.getInputStream();
+    ByteArrayOutputStream read = new ByteArrayOutputStream();
+    boolean[] completed = new boolean[1];
+
+    in.setReadListener(
+        new ReadListener() {
+          @Override
+          public void onDataAvailable() throws IOException {
+            int b;
+            while (in.isReady() && (b = in.read()) != -1) {
+              read.write(b);
+            }
+          }
+
+          @Override
+          public void onAllDataRead() {
+            completed[0] = true;
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            Assertions.fail(t);
+          }
+        });
+
+    Assertions.assertTrue(completed[0]);
+    Assertions.assertTrue(in.isFinished());
+    Assertions.assertEquals("{\"query\":\"{ tags }\"}", read.toString(StandardCharsets.UTF_8));
+  }
+}
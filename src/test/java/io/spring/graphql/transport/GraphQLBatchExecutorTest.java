@@ -0,0 +1,148 @@
+package io.spring.graphql.transport;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.graphql.instrumentation.QueryCostInstrumentation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GraphQLBatchExecutorTest {
+  private static final String SCHEMA =
+      "type Query { author(id: ID): Author } type Author { name: String }\n"
+          + "type Mutation { touch: String }";
+
+  private final List<String> loaded = new CopyOnWriteArrayList<>();
+  private final List<String> mutationThreads = new CopyOnWriteArrayList<>();
+  private GraphQLBatchExecutor batchExecutor;
+
+  @BeforeEach
+  public void setUp() {
+    RuntimeWiring wiring =
+        RuntimeWiring.newRuntimeWiring()
+            .type(
+                "Query",
+                builder ->
+                    builder.dataFetcher(
+                        "author",
+                        env ->
+                            env.<String, Map<String, Object>>getDataLoader("authors")
+                                .load(env.getArgument("id"))))
+            .type(
+                "Mutation",
+                builder ->
+                    builder.dataFetcher(
+                        "touch",
+                        env -> {
+                          mutationThreads.add(Thread.currentThread().getName());
+                          return "ok";
+                        }))
+            .build();
+    GraphQL graphQL =
+        GraphQL.newGraphQL(
+                new SchemaGenerator()
+                    .makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring))
+            .build();
+    batchExecutor =
+        new GraphQLBatchExecutor(
+            graphQL,
+            new QueryCostInstrumentation(12, 5, new SimpleMeterRegistry()),
+            () -> {
+              DataLoaderRegistry registry = new DataLoaderRegistry();
+              registry.register(
+                  "authors",
+                  DataLoaderFactory.newMappedDataLoader(
+                      ids -> {
+                        loaded.addAll(ids);
+                        return CompletableFuture.completedFuture(
+                            ids.stream()
+                                .collect(
+                                    toMap(
+                                        id -> id,
+                                        id -> Collections.singletonMap("name", "author " + id))));
+                      }));
+              return new GraphQLBatchExecutor.Scope(registry, null);
+            },
+            2);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    batchExecutor.destroy();
+  }
+
+  @Test
+  public void should_share_data_loader_cache_across_operations() {
+    List<ExecutionResult> results =
+        batchExecutor.execute(
+            operations(
+                "{ author(id: \"1\") { name } }",
+                "{ author(id: \"2\") { name } }",
+                "{ author(id: \"1\") { name } }"));
+
+    Assertions.assertEquals(
+        Arrays.asList("author 1", "author 2", "author 1"),
+        results.stream().map(GraphQLBatchExecutorTest::authorName).collect(toList()));
+    List<String> sorted = new ArrayList<>(loaded);
+    Collections.sort(sorted);
+    Assertions.assertEquals(Arrays.asList("1", "2"), sorted);
+  }
+
+  @Test
+  public void should_run_batches_with_mutations_in_order_on_the_caller() {
+    List<ExecutionResult> results =
+        batchExecutor.execute(
+            operations(
+                "mutation { touch }", "{ author(id: \"1\") { name } }", "mutation { touch }"));
+
+    Assertions.assertEquals(3, results.size());
+    Assertions.assertEquals("author 1", authorName(results.get(1)));
+    Assertions.assertEquals(
+        Arrays.asList(Thread.currentThread().getName(), Thread.currentThread().getName()),
+        mutationThreads);
+  }
+
+  @Test
+  public void should_reject_batches_over_the_cost_budget_as_a_whole() {
+    String author = "{ author(id: \"1\") { name } }";
+    List<ExecutionResult> results =
+        batchExecutor.execute(operations(author, author, author, author, author, author));
+
+    Assertions.assertEquals(6, results.size());
+    for (ExecutionResult result : results) {
+      Assertions.assertNull(result.getData());
+      Assertions.assertEquals(
+          "Batch cost 6 exceeds the maximum of 5", result.getErrors().get(0).getMessage());
+    }
+    Assertions.assertTrue(loaded.isEmpty());
+  }
+
+  private static List<ExecutionInput.Builder> operations(String... queries) {
+    return Arrays.stream(queries)
+        .map(query -> ExecutionInput.newExecutionInput().query(query))
+        .collect(toList());
+  }
+
+  private static Object authorName(ExecutionResult result) {
+    Map<String, Map<String, Object>> data = result.getData();
+    return data.get("author").get("name");
+  }
+}
@@ -0,0 +1,94 @@
+package io.spring.graphql.transport;
+
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.graphql.instrumentation.QueryCostInstrumentation;
+import java.util.Arrays;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class IncrementalDeliveryFilterTest {
+  private static final String SCHEMA = "type Query { title: String comments: [String] }";
+
+  private GraphQLBatchExecutor executor;
+  private IncrementalDeliveryFilter filter;
+
+  @BeforeEach
+  public void setUp() {
+    RuntimeWiring wiring =
+        RuntimeWiring.newRuntimeWiring()
+            .type(
+                "Query",
+                builder ->
+                    builder
+                        .dataFetcher("title", env -> "hello")
+                        .dataFetcher("comments", env -> Arrays.asList("first", "second")))
+            .build();
+    GraphQL graphQL =
+        GraphQL.newGraphQL(
+                GraphQLBatchExecutor.withDefer(
+                    new SchemaGenerator()
+                        .makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring)))
+            .build();
+    executor =
+        new GraphQLBatchExecutor(
+            graphQL,
+            new QueryCostInstrumentation(12, 10000, new SimpleMeterRegistry()),
+            () -> new GraphQLBatchExecutor.Scope(new DataLoaderRegistry(), null),
+            1);
+    filter = new IncrementalDeliveryFilter(executor, "/graphql");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.destroy();
+  }
+
+  @Test
+  public void should_deliver_deferred_fields_in_later_parts() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("{\"query\":\"{ title comments @defer }\"}"), response, chain);
+
+    Assertions.assertNull(chain.getRequest());
+    Assertions.assertTrue(response.getContentType().startsWith("multipart/mixed"));
+    String[] parts = response.getContentAsString().split("\r\n---\r\n");
+    Assertions.assertEquals(4, parts.length);
+    Assertions.assertTrue(parts[1].contains("\"title\":\"hello\""));
+    Assertions.assertFalse(parts[1].contains("first"));
+    Assertions.assertTrue(parts[1].contains("\"hasNext\":true"));
+    Assertions.assertTrue(parts[2].contains("[\"first\",\"second\"]"));
+    Assertions.assertTrue(parts[2].contains("\"path\":[\"comments\"]"));
+    Assertions.assertTrue(parts[3].contains("{\"hasNext\":false}"));
+    Assertions.assertTrue(parts[3].endsWith("\r\n-----\r\n"));
+  }
+
+  @Test
+  public void should_pass_operations_without_defer_through() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(request("{\"query\":\"{ title }\"}"), response, chain);
+
+    Assertions.assertNotNull(chain.getRequest());
+  }
+
+  private static MockHttpServletRequest request(String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+    request.setServletPath("/graphql");
+    request.addHeader("Accept", "multipart/mixed, application/json");
+    request.setContentType("application/json");
+    request.setContent(body.getBytes());
+    return request;
+  }
+}
@@ -0,0 +1,123 @@
+package io.spring.infrastructure.article;
+
+import io.spring.application.ArticleFields;
+import io.spring.application.CursorPageParameter;
+import io.spring.application.CursorPager.Direction;
+import io.spring.application.Page;
+import io.spring.application.data.ArticleData;
+import io.spring.core.article.Article;
+import io.spring.core.article.ArticleRepository;
+import io.spring.core.user.User;
+import io.spring.core.user.UserRepository;
+import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.ArticleOrdinals;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.ProfileVersions;
+import io.spring.infrastructure.memory.RelatedArticlesIndex;
+import io.spring.infrastructure.memory.TagUsageIndex;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import io.spring.infrastructure.repository.MyBatisArticleRepository;
+import io.spring.infrastructure.repository.MyBatisUserRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import({
+  MyBatisArticleRepository.class,
+  MyBatisUserRepository.class,
+  FollowGraph.class,
+  ProfileVersions.class,
+  TagUsageIndex.class,
+  RelatedArticlesIndex.class,
+  ArticleOrdinals.class,
+  ArticleFilterIndex.class
+})
+public class ArticleReadServiceTest extends DbTestBase {
+  private static final String NAMESPACE = ArticleReadService.class.getName();
+
+  @Autowired private ArticleReadService articleReadService;
+
+  @Autowired private ArticleRepository articleRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private SqlSessionFactory sqlSessionFactory;
+
+  private User user;
+
+  @BeforeEach
+  public void setUp() {
+    user = new User("aisensiy@gmail.com", "aisensiy", "123", "", "");
+    userRepository.save(user);
+    articleRepository.save(
+        new Article("test", "desc", "body", Arrays.asList("java"), user.getId(), new DateTime()));
+  }
+
+  @Test
+  public void should_bind_author_ids_with_a_fixed_statement() {
+    List<String> statements =
+        Arrays.asList("countFeedSize", "findArticlesOfAuthors", "findArticlesOfAuthorsWithCursor");
+    for (String statement : statements) {
+      BoundSql small = boundSql(statement, authors(1));
+      BoundSql large = boundSql(statement, authors(5000));
+      Assertions.assertEquals(small.getSql(), large.getSql());
+      Assertions.assertEquals(
+          small.getParameterMappings().size(), large.getParameterMappings().size());
+    }
+  }
+
+  @Test
+  public void should_query_feed_of_more_authors_than_sqlite_parameters() {
+    List<String> authors = authors(40000);
+    authors.add(20000, user.getId());
+
+    Assertions.assertEquals(1, articleReadService.countFeedSize(authors));
+    List<ArticleData> articles =
+        articleReadService.findArticlesOfAuthors(authors, new Page(), ArticleFields.ALL);
+    Assertions.assertEquals(1, articles.size());
+    Assertions.assertEquals(user.getId(), articles.get(0).getProfileData().getId());
+    Assertions.assertEquals(
+        1,
+        articleReadService
+            .findArticlesOfAuthorsWithCursor(
+                authors, new CursorPageParameter<>(null, 20, Direction.NEXT), ArticleFields.ALL)
+            .size());
+  }
+
+  @Test
+  public void should_match_no_article_for_empty_authors() {
+    Assertions.assertEquals(0, articleReadService.countFeedSize(Collections.emptyList()));
+  }
+
+  private BoundSql boundSql(String statement, List<String> authors) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authors", authors);
+    params.put("page", new CursorPageParameter<>(null, 20, Direction.NEXT));
+    params.put("fields", ArticleFields.ALL);
+    return sqlSessionFactory
+        .getConfiguration()
+        .getMappedStatement(NAMESPACE + "." + statement)
+        .getBoundSql(params);
+  }
+
+  private static List<String> authors(int size) {
+    List<String> authors = new ArrayList<>(size + 1);
+    for (int i = 0; i < size; i++) {
+      authors.add(UUID.randomUUID().toString());
+    }
+    return authors;
+  }
+}
@@ -0,0 +1,71 @@
+package io.spring.infrastructure.broker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+public class EventBrokerTest {
+  private SimpleMeterRegistry meterRegistry;
+  private EventBroker broker;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    broker = new EventBroker(2, meterRegistry);
+  }
+
+  @Test
+  public void should_drop_oldest_events_of_a_slow_subscriber() throws Exception {
+    Collector collector = new Collector(3);
+    broker.subscribe("comments:a").subscribe(collector);
+    for (int i = 1; i <= 5; i++) {
+      broker.publish("comments:a", i);
+    }
+    broker.publish("comments:b", 6);
+
+    collector.request(Long.MAX_VALUE);
+    Assertions.assertTrue(collector.received.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(Arrays.asList(1, 4, 5), collector.events);
+    Assertions.assertEquals(2.0, meterRegistry.counter("broker.events.dropped").count());
+  }
+
+  @Test
+  public void should_forget_topics_without_subscribers() {
+    Flux<Object> events = broker.subscribe("favorites:a");
+    Assertions.assertFalse(broker.hasSubscribers("favorites:a"));
+
+    Collector collector = new Collector(1);
+    events.subscribe(collector);
+    Assertions.assertTrue(broker.hasSubscribers("favorites:a"));
+
+    collector.dispose();
+    Assertions.assertFalse(broker.hasSubscribers("favorites:a"));
+  }
+
+  private static class Collector extends BaseSubscriber<Object> {
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch received;
+
+    Collector(int expected) {
+      this.received = new CountDownLatch(expected);
+    }
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {}
+
+    @Override
+    protected void hookOnNext(Object value) {
+      events.add(value);
+      received.countDown();
+    }
+  }
+}
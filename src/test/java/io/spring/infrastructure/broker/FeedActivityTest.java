@@ -0,0 +1,93 @@
+package io.spring.infrastructure.broker;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.spring.application.data.ArticleData;
+import io.spring.application.data.ProfileData;
+import io.spring.core.event.ArticleCreatedEvent;
+import io.spring.infrastructure.broker.FeedActivity.FeedEvent;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.mybatis.readservice.ArticleReadService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FeedActivityTest {
+  private FeedActivity feedActivity;
+
+  @BeforeEach
+  public void setUp() {
+    FollowGraph followGraph = new FollowGraph();
+    followGraph.follow("reader", "author");
+    followGraph.follow("someone", "other");
+    ArticleReadService articleReadService = mock(ArticleReadService.class);
+    when(articleReadService.findById(anyString(), any()))
+        .thenAnswer(
+            invocation -> {
+              String id = invocation.getArgument(0);
+              String author = id.substring(0, id.indexOf('-'));
+              ProfileData profile = new ProfileData(author, author, "", "", false);
+              ArticleData article = new ArticleData();
+              article.setId(id);
+              article.setProfileData(profile);
+              return article;
+            });
+    EventBroker eventBroker = new EventBroker(64, new SimpleMeterRegistry());
+    feedActivity = new FeedActivity(eventBroker, followGraph, articleReadService, 3);
+  }
+
+  @Test
+  public void should_push_articles_of_followed_authors_only() throws Exception {
+    CompletableFuture<List<FeedEvent>> events =
+        feedActivity.articlesCreated("reader", null).take(2).collectList().toFuture();
+    create("author-1", "author");
+    create("other-1", "other");
+    create("author-2", "author");
+
+    List<FeedEvent> received = events.get(5, TimeUnit.SECONDS);
+    Assertions.assertEquals(Arrays.asList("author-1", "author-2"), articleIds(received));
+    Assertions.assertEquals(Arrays.asList(1L, 3L), eventIds(received));
+    Assertions.assertTrue(received.get(0).article().getProfileData().isFollowing());
+  }
+
+  @Test
+  public void should_replay_missed_articles_from_the_ring() {
+    for (int i = 1; i <= 4; i++) {
+      create("author-" + i, "author");
+    }
+
+    Assertions.assertEquals(Arrays.asList("author-3", "author-4"), replayed(2L, 2));
+    Assertions.assertEquals(Arrays.asList("author-2", "author-3", "author-4"), replayed(99L, 3));
+  }
+
+  private List<String> replayed(long lastEventId, int count) {
+    return articleIds(
+        feedActivity
+            .articlesCreated("reader", lastEventId)
+            .take(count)
+            .collectList()
+            .block(Duration.ofSeconds(5)));
+  }
+
+  private void create(String articleId, String authorId) {
+    feedActivity.onArticleCreated(new ArticleCreatedEvent(articleId, authorId));
+  }
+
+  private static List<String> articleIds(List<FeedEvent> events) {
+    return events.stream().map(event -> event.article().getId()).collect(Collectors.toList());
+  }
+
+  private static List<Long> eventIds(List<FeedEvent> events) {
+    return events.stream().map(FeedEvent::id).collect(Collectors.toList());
+  }
+}
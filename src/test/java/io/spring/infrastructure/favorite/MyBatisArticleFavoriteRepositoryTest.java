@@ -3,19 +3,27 @@ package io.spring.infrastructure.favorite;
 import io.spring.core.favorite.ArticleFavorite;
 import io.spring.core.favorite.ArticleFavoriteRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.ArticleFilterIndex;
+import io.spring.infrastructure.memory.FavoriteCounters;
 import io.spring.infrastructure.repository.MyBatisArticleFavoriteRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import({MyBatisArticleFavoriteRepository.class})
+@Import({
+  MyBatisArticleFavoriteRepository.class,
+  FavoriteCounters.class,
+  ArticleFilterIndex.class
+})
 public class MyBatisArticleFavoriteRepositoryTest extends DbTestBase {
   @Autowired private ArticleFavoriteRepository articleFavoriteRepository;
 
   @Autowired
   private io.spring.infrastructure.mybatis.mapper.ArticleFavoriteMapper articleFavoriteMapper;
 
+  @Autowired private FavoriteCounters favoriteCounters;
+
   @Test
   public void should_save_and_fetch_articleFavorite_success() {
     ArticleFavorite articleFavorite = new ArticleFavorite("123", "456");
@@ -31,4 +39,15 @@ public class MyBatisArticleFavoriteRepositoryTest extends DbTestBase {
     articleFavoriteRepository.remove(articleFavorite);
     Assertions.assertFalse(articleFavoriteRepository.find("123", "456").isPresent());
   }
+
+  @Test
+  public void should_keep_favorite_counter_in_sync() {
+    ArticleFavorite articleFavorite = new ArticleFavorite("123", "456");
+    articleFavoriteRepository.save(articleFavorite);
+    articleFavoriteRepository.save(articleFavorite);
+    Assertions.assertEquals(1, favoriteCounters.count("123"));
+    articleFavoriteRepository.remove(articleFavorite);
+    articleFavoriteRepository.remove(articleFavorite);
+    Assertions.assertEquals(0, favoriteCounters.count("123"));
+  }
 }
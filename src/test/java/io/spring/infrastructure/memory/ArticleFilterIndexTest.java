@@ -0,0 +1,86 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.infrastructure.memory.ArticleFilterIndex.BulkLoad;
+import io.spring.infrastructure.memory.ArticleFilterIndex.Filter;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ArticleFilterIndexTest {
+  private static final Filter ALL = new Filter(null, null, null);
+
+  private ArticleFilterIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new ArticleFilterIndex();
+    BulkLoad load = index.bulkLoad();
+    load.article("a", "alice", 100);
+    load.article("c", "bob", 300);
+    load.article("b", "alice", 200);
+    load.tag("a", "java");
+    load.tag("b", "java");
+    load.tag("c", "go");
+    load.favorite("a", "bob");
+    load.finish();
+  }
+
+  @Test
+  public void should_ignore_writes_until_loaded() {
+    ArticleFilterIndex empty = new ArticleFilterIndex();
+    empty.add("a", "alice", 100, Arrays.asList("java"));
+
+    Assertions.assertFalse(empty.isReady());
+    Assertions.assertEquals(0, empty.count(ALL));
+  }
+
+  @Test
+  public void should_list_newest_first_with_exact_counts() {
+    Assertions.assertTrue(index.isReady());
+    Assertions.assertEquals(Arrays.asList("c", "b", "a"), index.find(ALL, 0, 10));
+    Assertions.assertEquals(Arrays.asList("b"), index.find(ALL, 1, 1));
+
+    Filter javaByAlice = new Filter("java", "alice", null);
+    Assertions.assertEquals(2, index.count(javaByAlice));
+    Assertions.assertEquals(Arrays.asList("b", "a"), index.find(javaByAlice, 0, 10));
+    Assertions.assertEquals(Arrays.asList("a"), index.find(new Filter(null, null, "bob"), 0, 10));
+    Assertions.assertEquals(0, index.count(new Filter("rust", null, null)));
+  }
+
+  @Test
+  public void should_page_by_creation_time_cursor() {
+    Assertions.assertEquals(Arrays.asList("b", "a"), index.findWithCursor(ALL, 300L, true, 10));
+    Assertions.assertEquals(Arrays.asList("c"), index.findWithCursor(ALL, 200L, false, 10));
+    Assertions.assertEquals(Arrays.asList("a", "b"), index.findWithCursor(ALL, null, false, 2));
+  }
+
+  @Test
+  public void should_follow_writes() {
+    index.add("d", "bob", 400, Arrays.asList("java"));
+    index.favorite("d", "alice");
+    index.remove("b");
+
+    Filter java = new Filter("java", null, null);
+    Filter favoritedByAlice = new Filter(null, null, "alice");
+    Assertions.assertEquals(Arrays.asList("d", "a"), index.find(java, 0, 10));
+    Assertions.assertEquals(Arrays.asList("d"), index.find(favoritedByAlice, 0, 10));
+
+    index.restore("b");
+    index.unfavorite("d", "alice");
+    Assertions.assertEquals(3, index.count(java));
+    Assertions.assertEquals(0, index.count(favoritedByAlice));
+  }
+
+  @Test
+  public void should_renumber_on_out_of_order_insert() {
+    index.remove("c");
+    index.add("e", "alice", 150, Collections.emptyList());
+
+    Assertions.assertEquals(Arrays.asList("b", "e", "a"), index.find(ALL, 0, 10));
+    Assertions.assertEquals(Arrays.asList("b", "e"), index.findWithCursor(ALL, 201L, true, 2));
+    Assertions.assertEquals(Arrays.asList("a"), index.find(new Filter(null, null, "bob"), 0, 10));
+    Assertions.assertEquals(3, index.count(new Filter(null, "alice", null)));
+  }
+}
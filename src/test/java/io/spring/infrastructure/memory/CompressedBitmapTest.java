@@ -0,0 +1,62 @@
+package io.spring.infrastructure.memory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+  @Test
+  public void should_switch_between_array_and_bitset_chunks() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    for (int i = 0; i < 10000; i += 2) {
+      Assertions.assertTrue(bitmap.add(i));
+    }
+    Assertions.assertFalse(bitmap.add(4));
+    Assertions.assertEquals(5000, bitmap.cardinality());
+    Assertions.assertTrue(bitmap.contains(9998));
+    Assertions.assertFalse(bitmap.contains(9999));
+
+    for (int i = 0; i < 10000; i += 4) {
+      Assertions.assertTrue(bitmap.remove(i));
+    }
+    Assertions.assertEquals(2500, bitmap.cardinality());
+    Assertions.assertFalse(bitmap.contains(4));
+    Assertions.assertTrue(bitmap.contains(6));
+  }
+
+  @Test
+  public void should_walk_members_across_chunks() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    bitmap.add(3);
+    bitmap.add(70000);
+    bitmap.add(200000);
+
+    Assertions.assertEquals(70000, bitmap.floor(199999));
+    Assertions.assertEquals(3, bitmap.floor(69999));
+    Assertions.assertEquals(-1, bitmap.floor(2));
+    Assertions.assertEquals(70000, bitmap.ceiling(4));
+    Assertions.assertEquals(200000, bitmap.ceiling(70001));
+    Assertions.assertEquals(-1, bitmap.ceiling(200001));
+    Assertions.assertArrayEquals(new int[] {3, 70000, 200000}, bitmap.toArray());
+  }
+
+  @Test
+  public void should_intersect_bitmaps() {
+    CompressedBitmap evens = new CompressedBitmap();
+    CompressedBitmap threes = new CompressedBitmap();
+    for (int i = 0; i < 100000; i++) {
+      if (i % 2 == 0) {
+        evens.add(i);
+      }
+      if (i % 3 == 0) {
+        threes.add(i);
+      }
+    }
+
+    CompressedBitmap sixes = evens.and(threes);
+    Assertions.assertEquals(16667, sixes.cardinality());
+    Assertions.assertTrue(sixes.contains(99996));
+    Assertions.assertFalse(sixes.contains(99997));
+    Assertions.assertEquals(99996, sixes.floor(99999));
+  }
+}
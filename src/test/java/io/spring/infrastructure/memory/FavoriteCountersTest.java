@@ -0,0 +1,47 @@
+package io.spring.infrastructure.memory;
+
+import io.spring.core.event.ArticleDeletedEvent;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FavoriteCountersTest {
+  private FavoriteCounters counters;
+
+  @BeforeEach
+  public void setUp() {
+    counters = new FavoriteCounters();
+  }
+
+  @Test
+  public void should_count_favorites() {
+    counters.load("a", 3);
+    counters.increment("a");
+    counters.increment("b");
+    counters.decrement("b");
+
+    Assertions.assertEquals(4, counters.count("a"));
+    Assertions.assertEquals(0, counters.count("b"));
+    Assertions.assertEquals(0, counters.count("missing"));
+    Assertions.assertEquals(
+        Integer.valueOf(4), counters.counts(Arrays.asList("a", "missing")).get("a"));
+  }
+
+  @Test
+  public void should_replace_total_when_reloading() {
+    counters.increment("a");
+    counters.load("a", 5);
+
+    Assertions.assertEquals(5, counters.count("a"));
+  }
+
+  @Test
+  public void should_forget_deleted_articles() {
+    counters.increment("a");
+    counters.onArticleDeleted(new ArticleDeletedEvent("a"));
+
+    Assertions.assertEquals(0, counters.count("a"));
+    Assertions.assertEquals(0, counters.changedAt("a"));
+  }
+}
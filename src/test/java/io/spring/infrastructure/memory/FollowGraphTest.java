@@ -0,0 +1,77 @@
+package io.spring.infrastructure.memory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FollowGraphTest {
+  private FollowGraph graph;
+
+  @BeforeEach
+  public void setUp() {
+    graph = new FollowGraph();
+  }
+
+  @Test
+  public void should_answer_follow_questions_in_both_directions() {
+    Assertions.assertTrue(graph.follow("a", "b"));
+    Assertions.assertTrue(graph.follow("a", "c"));
+    Assertions.assertTrue(graph.follow("d", "b"));
+
+    Assertions.assertTrue(graph.isFollowing("a", "b"));
+    Assertions.assertFalse(graph.isFollowing("b", "a"));
+    Assertions.assertEquals(new HashSet<>(Arrays.asList("b", "c")), set(graph.followingOf("a")));
+    Assertions.assertEquals(new HashSet<>(Arrays.asList("a", "d")), set(graph.followersOf("b")));
+    Assertions.assertEquals(
+        new HashSet<>(Arrays.asList("c")), graph.followingAmong("a", Arrays.asList("c", "d", "x")));
+    Assertions.assertEquals(3, graph.edgeCount());
+  }
+
+  @Test
+  public void should_ignore_duplicate_and_missing_edges() {
+    Assertions.assertTrue(graph.follow("a", "b"));
+    Assertions.assertFalse(graph.follow("a", "b"));
+    Assertions.assertFalse(graph.unfollow("a", "c"));
+    Assertions.assertFalse(graph.unfollow("x", "y"));
+    Assertions.assertEquals(1, graph.edgeCount());
+  }
+
+  @Test
+  public void should_unfollow_and_bump_version() {
+    graph.follow("a", "b");
+    long version = graph.followingVersion("a");
+
+    Assertions.assertTrue(graph.unfollow("a", "b"));
+    Assertions.assertFalse(graph.isFollowing("a", "b"));
+    Assertions.assertTrue(graph.followersOf("b").isEmpty());
+    Assertions.assertTrue(graph.followingVersion("a") > version);
+    Assertions.assertEquals(0, graph.edgeCount());
+  }
+
+  @Test
+  public void should_merge_bulk_load_with_existing_edges() {
+    graph.follow("a", "b");
+    FollowGraph.BulkLoad load = graph.bulkLoad();
+    for (int i = 0; i < 5000; i++) {
+      load.add("user" + (i % 50), "user" + (i % 70));
+    }
+    load.add("a", "b");
+    load.add("a", "c");
+    load.finish();
+
+    Assertions.assertTrue(graph.isFollowing("a", "b"));
+    Assertions.assertTrue(graph.isFollowing("a", "c"));
+    Assertions.assertTrue(graph.isFollowing("user3", "user3"));
+    Assertions.assertEquals(2, graph.followingOf("a").size());
+    Assertions.assertEquals(graph.followingOf("user1").size(), set(graph.followingOf("user1")).size());
+  }
+
+  private static Set<String> set(Iterable<String> values) {
+    Set<String> result = new HashSet<>();
+    values.forEach(result::add);
+    return result;
+  }
+}
@@ -0,0 +1,56 @@
+package io.spring.infrastructure.memory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RelatedArticlesIndexTest {
+  private RelatedArticlesIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new RelatedArticlesIndex(new ArticleOrdinals());
+  }
+
+  @Test
+  public void should_rank_rare_shared_tags_above_common_ones() {
+    index.add("a", Arrays.asList("java", "graal"));
+    index.add("b", Arrays.asList("java", "spring"));
+    index.add("c", Arrays.asList("graal", "spring"));
+    index.add("d", Arrays.asList("java", "go"));
+    index.add("e", Arrays.asList("rust"));
+
+    Assertions.assertEquals(Arrays.asList("c", "b", "d"), index.related("a", 5));
+    Assertions.assertEquals(Arrays.asList("c"), index.related("a", 1));
+    Assertions.assertEquals(Collections.emptyList(), index.related("e", 5));
+    Assertions.assertEquals(Collections.emptyList(), index.related("missing", 5));
+  }
+
+  @Test
+  public void should_forget_removed_articles() {
+    index.add("a", Arrays.asList("java"));
+    index.add("b", Arrays.asList("java"));
+    index.remove("b");
+
+    Assertions.assertEquals(Collections.emptyList(), index.related("a", 5));
+    Assertions.assertEquals(Collections.emptyList(), index.related("b", 5));
+  }
+
+  @Test
+  public void should_keep_posting_lists_sorted() {
+    PostingList list = new PostingList();
+    Assertions.assertTrue(list.add(300));
+    Assertions.assertTrue(list.add(5));
+    Assertions.assertTrue(list.add(70000));
+    Assertions.assertFalse(list.add(5));
+    Assertions.assertTrue(list.add(128));
+
+    Assertions.assertArrayEquals(new int[] {5, 128, 300, 70000}, list.toArray());
+    Assertions.assertTrue(list.remove(300));
+    Assertions.assertFalse(list.remove(301));
+    Assertions.assertArrayEquals(new int[] {5, 128, 70000}, list.toArray());
+    Assertions.assertEquals(3, list.size());
+  }
+}
@@ -0,0 +1,41 @@
+package io.spring.infrastructure.memory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TagUsageIndexTest {
+  private TagUsageIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new TagUsageIndex();
+  }
+
+  @Test
+  public void should_rank_tags_by_usage_then_name() {
+    index.add("java", 2);
+    index.add("spring", 3);
+    index.add("go", 2);
+
+    Assertions.assertEquals(Arrays.asList("spring", "go", "java"), index.top(5));
+    Assertions.assertEquals(Arrays.asList("spring", "go"), index.top(2));
+    Assertions.assertEquals(Collections.emptyList(), index.top(0));
+  }
+
+  @Test
+  public void should_move_tags_incrementally() {
+    index.add("java", 1);
+    index.add("spring", 2);
+    index.add("java", 2);
+    Assertions.assertEquals(Arrays.asList("java", "spring"), index.top(2));
+
+    long version = index.version();
+    index.add("java", -3);
+    Assertions.assertEquals(Arrays.asList("spring"), index.top(2));
+    Assertions.assertEquals(0, index.count("java"));
+    Assertions.assertTrue(index.version() > version);
+  }
+}
@@ -0,0 +1,69 @@
+package io.spring.infrastructure.memory;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrendingScoresTest {
+  private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+  private AtomicLong now;
+  private TrendingScores scores;
+
+  @BeforeEach
+  public void setUp() {
+    now = new AtomicLong(1_000_000);
+    scores = new TrendingScores(HOUR, 3, now::get);
+  }
+
+  @Test
+  public void should_let_recent_activity_overtake_older_activity() {
+    scores.record("old", 3);
+    now.addAndGet(2 * HOUR);
+    scores.record("new", 1);
+
+    Assertions.assertEquals(Arrays.asList("new", "old"), scores.top(0, 10));
+    Assertions.assertEquals(0.75, scores.snapshot().get("old"), 1e-9);
+    Assertions.assertEquals(1, scores.snapshot().get("new"), 1e-9);
+  }
+
+  @Test
+  public void should_keep_only_the_best_articles() {
+    scores.record("a", 4);
+    scores.record("b", 3);
+    scores.record("c", 2);
+    scores.record("d", 1);
+
+    Assertions.assertEquals(3, scores.size());
+    Assertions.assertEquals(Arrays.asList("a", "b", "c"), scores.top(0, 10));
+    Assertions.assertEquals(Arrays.asList("b"), scores.top(1, 1));
+  }
+
+  @Test
+  public void should_survive_long_runs_and_retractions() {
+    scores.record("a", 2);
+    scores.record("b", 1);
+    now.addAndGet(1000 * HOUR);
+    scores.record("b", 1);
+    scores.record("a", 0.5);
+
+    Assertions.assertEquals(Arrays.asList("b", "a"), scores.top(0, 10));
+    Assertions.assertEquals(1, scores.snapshot().get("b"), 1e-9);
+
+    scores.record("b", -5);
+    scores.remove("missing");
+    Assertions.assertEquals(Arrays.asList("a"), scores.top(0, 10));
+  }
+
+  @Test
+  public void should_restore_checkpointed_scores() {
+    long checkpointedAt = now.get();
+    now.addAndGet(HOUR);
+    scores.restore("a", 8, checkpointedAt);
+
+    Assertions.assertEquals(4, scores.snapshot().get("a"), 1e-9);
+  }
+}
@@ -0,0 +1,98 @@
+package io.spring.infrastructure.service;
+
+import io.spring.infrastructure.mybatis.StatementCountingInterceptor;
+import io.spring.infrastructure.service.QueryFanOut.Forked;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ibatis.plugin.Invocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+public class QueryFanOutTest {
+  private QueryFanOut fanOut;
+
+  @BeforeEach
+  public void setUp() {
+    fanOut = new QueryFanOut(2, 4, 500);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    fanOut.destroy();
+  }
+
+  @Test
+  public void should_run_forked_queries_concurrently() {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    Forked<Boolean> first = fanOut.fork(() -> await(bothStarted));
+    Forked<Boolean> second = fanOut.fork(() -> await(bothStarted));
+    Assertions.assertTrue(first.join());
+    Assertions.assertTrue(second.join());
+  }
+
+  @Test
+  public void should_rethrow_query_exception() {
+    Forked<Integer> failed =
+        fanOut.fork(
+            () -> {
+              throw new IllegalArgumentException("boom");
+            });
+    Assertions.assertThrows(IllegalArgumentException.class, failed::join);
+  }
+
+  @Test
+  public void should_time_out_slow_query() {
+    Forked<Boolean> slow = fanOut.fork(() -> await(new CountDownLatch(2)));
+    Assertions.assertThrows(QueryTimeoutException.class, slow::join);
+  }
+
+  @Test
+  public void should_skip_a_cancelled_query_that_has_not_started() {
+    CountDownLatch busy = new CountDownLatch(3);
+    Forked<Boolean> first = fanOut.fork(() -> await(busy));
+    Forked<Boolean> second = fanOut.fork(() -> await(busy));
+    AtomicBoolean ran = new AtomicBoolean();
+    Forked<Boolean> queued = fanOut.fork(() -> ran.getAndSet(true));
+
+    queued.cancel();
+    busy.countDown();
+
+    Assertions.assertTrue(first.join());
+    Assertions.assertTrue(second.join());
+    Assertions.assertFalse(ran.get());
+  }
+
+  @Test
+  public void should_count_statements_of_forked_queries_for_the_caller() throws Throwable {
+    StatementCountingInterceptor interceptor = new StatementCountingInterceptor();
+    Invocation prepare = new Invocation("", Object.class.getMethod("toString"), new Object[0]);
+    long before = StatementCountingInterceptor.count();
+
+    fanOut
+        .fork(
+            () -> {
+              try {
+                return interceptor.intercept(prepare);
+              } catch (Throwable e) {
+                throw new IllegalStateException(e);
+              }
+            })
+        .join();
+
+    Assertions.assertEquals(before + 1, StatementCountingInterceptor.count());
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    latch.countDown();
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
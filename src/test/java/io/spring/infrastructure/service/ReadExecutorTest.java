@@ -0,0 +1,79 @@
+package io.spring.infrastructure.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+public class ReadExecutorTest {
+  private ReadExecutor readExecutor;
+
+  @BeforeEach
+  public void setUp() {
+    readExecutor = new ReadExecutor(2, 4, 2, 8, 1000, 3);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    readExecutor.destroy();
+  }
+
+  @Test
+  public void should_reject_reads_beyond_the_limit() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Boolean> first = readExecutor.submit(() -> await(release));
+    CompletableFuture<Boolean> second = readExecutor.submit(() -> await(release));
+    CompletableFuture<Boolean> rejected = readExecutor.submit(() -> true);
+
+    ExecutionException e = Assertions.assertThrows(ExecutionException.class, rejected::get);
+    Assertions.assertEquals(3, ((OverloadedException) e.getCause()).getRetryAfterSeconds());
+    release.countDown();
+    Assertions.assertTrue(first.get(1, TimeUnit.SECONDS));
+    Assertions.assertTrue(second.get(1, TimeUnit.SECONDS));
+    Assertions.assertTrue(readExecutor.submit(() -> true).get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void should_back_off_when_the_database_is_overloaded() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      CompletableFuture<Object> timedOut =
+          readExecutor.submit(
+              () -> {
+                throw new QueryTimeoutException("busy");
+              });
+      Assertions.assertThrows(ExecutionException.class, timedOut::get);
+    }
+
+    Assertions.assertEquals(1, readExecutor.limit());
+  }
+
+  @Test
+  public void should_grow_the_limit_while_fast_and_busy() {
+    AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 4, 1_000_000, 0.5);
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertTrue(limiter.tryAcquire());
+      Assertions.assertTrue(limiter.tryAcquire());
+      limiter.release(10, false);
+      limiter.release(10, false);
+    }
+    Assertions.assertEquals(4, limiter.limit());
+
+    limiter.tryAcquire();
+    limiter.release(2_000_000, false);
+    Assertions.assertEquals(2, limiter.limit());
+    Assertions.assertEquals(0, limiter.inFlight());
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package io.spring.infrastructure.threads;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PermitLimitedDataSourceTest {
+  private DataSource target;
+  private Connection connection;
+  private PermitLimitedDataSource dataSource;
+
+  @BeforeEach
+  public void setUp() throws SQLException {
+    target = mock(DataSource.class);
+    connection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(connection);
+    dataSource = new PermitLimitedDataSource(target, 2, 50);
+  }
+
+  @Test
+  public void should_release_the_permit_once_when_the_connection_closes() throws SQLException {
+    Connection first = dataSource.getConnection();
+    Connection second = dataSource.getConnection();
+    Assertions.assertEquals(0, dataSource.availablePermits());
+
+    first.close();
+    first.close();
+
+    Assertions.assertEquals(1, dataSource.availablePermits());
+    verify(connection, times(1)).close();
+    Assertions.assertEquals(first, first);
+    Assertions.assertNotEquals(first, second);
+    second.close();
+    Assertions.assertEquals(2, dataSource.availablePermits());
+  }
+
+  @Test
+  public void should_time_out_when_all_permits_are_taken() throws SQLException {
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+  }
+
+  @Test
+  public void should_return_the_permit_when_the_pool_fails() throws SQLException {
+    when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+    Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+    Assertions.assertEquals(2, dataSource.availablePermits());
+  }
+}
@@ -4,6 +4,8 @@ import io.spring.core.user.FollowRelation;
 import io.spring.core.user.User;
 import io.spring.core.user.UserRepository;
 import io.spring.infrastructure.DbTestBase;
+import io.spring.infrastructure.memory.FollowGraph;
+import io.spring.infrastructure.memory.ProfileVersions;
 import io.spring.infrastructure.repository.MyBatisUserRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
@@ -12,9 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-@Import(MyBatisUserRepository.class)
+@Import({MyBatisUserRepository.class, FollowGraph.class, ProfileVersions.class})
 public class MyBatisUserRepositoryTest extends DbTestBase {
   @Autowired private UserRepository userRepository;
+  @Autowired private FollowGraph followGraph;
   private User user;
 
   @BeforeEach
@@ -70,4 +73,18 @@ public class MyBatisUserRepositoryTest extends DbTestBase {
     userRepository.removeRelation(followRelation);
     Assertions.assertFalse(userRepository.findRelation(user.getId(), other.getId()).isPresent());
   }
+
+  @Test
+  public void should_keep_follow_graph_in_sync_with_relations() {
+    User other = new User("other@example.com", "other", "123", "", "");
+    userRepository.save(other);
+
+    FollowRelation followRelation = new FollowRelation(user.getId(), other.getId());
+    userRepository.saveRelation(followRelation);
+    Assertions.assertTrue(followGraph.isFollowing(user.getId(), other.getId()));
+    Assertions.assertTrue(followGraph.followersOf(other.getId()).contains(user.getId()));
+
+    userRepository.removeRelation(followRelation);
+    Assertions.assertFalse(followGraph.isFollowing(user.getId(), other.getId()));
+  }
 }